@@ -22,20 +22,26 @@ import static io.smallrye.config.inject.ConfigMappingInjectionBean.getPrefixFrom
 import static io.smallrye.config.inject.ConfigMappingInjectionBean.getPrefixFromType;
 import static io.smallrye.config.inject.ConfigProducer.isClassHandledByConfigProducer;
 import static io.smallrye.config.inject.InjectionMessages.formatInjectionPoint;
-import static io.smallrye.config.inject.SecuritySupport.getContextClassLoader;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import javax.enterprise.event.Observes;
@@ -61,6 +67,7 @@ import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.ConfigMappings.ConfigClassWithPrefix;
 import io.smallrye.config.ConfigValidationException;
 import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.inject.ConfigProducerUtil.InjectionPlan;
 
 /**
  * CDI Extension to produces Config bean.
@@ -68,6 +75,8 @@ import io.smallrye.config.SmallRyeConfig;
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2017 Red Hat inc.
  */
 public class ConfigExtension implements Extension {
+    private static final int PARALLEL_VALIDATION_THRESHOLD = 256;
+
     private final Set<InjectionPoint> configPropertyInjectionPoints = new HashSet<>();
 
     private final Set<AnnotatedType<?>> configProperties = new HashSet<>();
@@ -144,55 +153,19 @@ public class ConfigExtension implements Extension {
     }
 
     protected void validate(@Observes AfterDeploymentValidation adv) {
-        Config config = ConfigProvider.getConfig(getContextClassLoader());
+        Config config = ConfigProvider.getConfig();
         Set<String> configNames = StreamSupport.stream(config.getPropertyNames().spliterator(), false).collect(toSet());
-        for (InjectionPoint injectionPoint : getConfigPropertyInjectionPoints()) {
-            Type type = injectionPoint.getType();
-
-            // We don't validate the Optional / Provider / Supplier / ConfigValue for defaultValue.
-            if (type instanceof Class && org.eclipse.microprofile.config.ConfigValue.class.isAssignableFrom((Class<?>) type)
-                    || type instanceof Class && OptionalInt.class.isAssignableFrom((Class<?>) type)
-                    || type instanceof Class && OptionalLong.class.isAssignableFrom((Class<?>) type)
-                    || type instanceof Class && OptionalDouble.class.isAssignableFrom((Class<?>) type)
-                    || type instanceof ParameterizedType
-                            && (Optional.class.isAssignableFrom((Class<?>) ((ParameterizedType) type).getRawType())
-                                    || Provider.class.isAssignableFrom((Class<?>) ((ParameterizedType) type).getRawType())
-                                    || Supplier.class.isAssignableFrom((Class<?>) ((ParameterizedType) type).getRawType()))) {
-                continue;
-            }
+        Map<String, List<String>> indexedProperties = indexedProperties(configNames);
 
-            ConfigProperty configProperty = injectionPoint.getAnnotated().getAnnotation(ConfigProperty.class);
-            String name;
-            try {
-                name = ConfigProducerUtil.getConfigKey(injectionPoint, configProperty);
-            } catch (IllegalStateException e) {
-                adv.addDeploymentProblem(
-                        InjectionMessages.msg.retrieveConfigFailure(null, formatInjectionPoint(injectionPoint),
-                                e.getLocalizedMessage(), e));
-                continue;
-            }
-
-            // Check if the name is part of the properties first.
-            // Since properties can be a subset, then search for the actual property for a value.
-            // Check if it is a map
-            // Finally also check if the property is indexed (might be a Collection with indexed properties).
-            if ((!configNames.contains(name) && ConfigProducerUtil.getRawValue(name, config) == null)
-                    && !isMap(type) && !isIndexed(type, name, config)) {
-                if (configProperty.defaultValue().equals(ConfigProperty.UNCONFIGURED_VALUE)) {
-                    adv.addDeploymentProblem(
-                            InjectionMessages.msg.noConfigValue(name, formatInjectionPoint(injectionPoint)));
-                    continue;
-                }
-            }
-
-            try {
-                // Check if the value can be injected. This may cause duplicated config reads (to validate and to inject).
-                ConfigProducerUtil.getValue(injectionPoint, config);
-            } catch (Exception e) {
-                adv.addDeploymentProblem(InjectionMessages.msg.retrieveConfigFailure(name, formatInjectionPoint(injectionPoint),
-                        e.getLocalizedMessage(), e));
-            }
-        }
+        // Injection points are independent, so they are resolved in parallel if there are enough of them
+        Set<InjectionPoint> injectionPoints = getConfigPropertyInjectionPoints();
+        Stream<InjectionPoint> stream = injectionPoints.size() < PARALLEL_VALIDATION_THRESHOLD ? injectionPoints.stream()
+                : injectionPoints.parallelStream();
+        List<Throwable> problems = stream
+                .map(injectionPoint -> validate(injectionPoint, config, configNames, indexedProperties))
+                .filter(Objects::nonNull)
+                .collect(toList());
+        problems.forEach(adv::addDeploymentProblem);
 
         Set<ConfigClassWithPrefix> configMappingsWithPrefix = mapToConfigObjectWithPrefix(configMappings,
                 configMappingInjectionPoints);
@@ -227,12 +200,102 @@ public class ConfigExtension implements Extension {
         return configMappingsWithPrefix;
     }
 
-    private static boolean isIndexed(Type type, String name, Config config) {
+    /**
+     * Validates a {@link ConfigProperty} injection point, by resolving its value once. The resolved value is kept in
+     * the {@link InjectionPlan} of the injection point, to be handed to the first injection.
+     *
+     * @return the deployment problem of the injection point, or {@code null} if the injection point is valid
+     */
+    private static Throwable validate(InjectionPoint injectionPoint, Config config, Set<String> configNames,
+            Map<String, List<String>> indexedProperties) {
+        Type type = injectionPoint.getType();
+
+        // We don't validate the Optional / Provider / Supplier / ConfigValue for defaultValue.
+        if (type instanceof Class && org.eclipse.microprofile.config.ConfigValue.class.isAssignableFrom((Class<?>) type)
+                || type instanceof Class && OptionalInt.class.isAssignableFrom((Class<?>) type)
+                || type instanceof Class && OptionalLong.class.isAssignableFrom((Class<?>) type)
+                || type instanceof Class && OptionalDouble.class.isAssignableFrom((Class<?>) type)
+                || type instanceof ParameterizedType
+                        && (Optional.class.isAssignableFrom((Class<?>) ((ParameterizedType) type).getRawType())
+                                || Provider.class.isAssignableFrom((Class<?>) ((ParameterizedType) type).getRawType())
+                                || Supplier.class.isAssignableFrom((Class<?>) ((ParameterizedType) type).getRawType()))) {
+            return null;
+        }
+
+        ConfigProperty configProperty = injectionPoint.getAnnotated().getAnnotation(ConfigProperty.class);
+        String name;
+        try {
+            name = ConfigProducerUtil.getConfigKey(injectionPoint, configProperty);
+        } catch (IllegalStateException e) {
+            return InjectionMessages.msg.retrieveConfigFailure(null, formatInjectionPoint(injectionPoint),
+                    e.getLocalizedMessage(), e);
+        }
+
+        // Read the value once, to check if it exists and to convert it.
+        // Maps are built from the sub properties, and collections may be built from indexed properties.
+        boolean map = isMap(type);
+        List<String> indexed = isCollection(type) ? indexedProperties.getOrDefault(name, emptyList()) : emptyList();
+        try {
+            String rawValue = map ? null : ConfigProducerUtil.getRawValue(name, config);
+            if (rawValue == null && !map && indexed.isEmpty() && !configNames.contains(name)) {
+                if (configProperty.defaultValue().equals(ConfigProperty.UNCONFIGURED_VALUE)) {
+                    return InjectionMessages.msg.noConfigValue(name, formatInjectionPoint(injectionPoint));
+                }
+            }
+
+            InjectionPlan.of(injectionPoint, config).resolve(rawValue, indexed);
+        } catch (Exception e) {
+            return InjectionMessages.msg.retrieveConfigFailure(name, formatInjectionPoint(injectionPoint),
+                    e.getLocalizedMessage(), e);
+        }
+        return null;
+    }
+
+    /**
+     * Indexes the indexed properties of the configuration by their parent property, in a single pass over the
+     * property names, instead of searching all the property names for each injection point.
+     *
+     * @param configNames the property names of the configuration
+     * @return a Map of the parent property names to their indexed property names, sorted by index.
+     */
+    private static Map<String, List<String>> indexedProperties(Set<String> configNames) {
+        Map<String, Set<Integer>> indexes = new HashMap<>();
+        for (String configName : configNames) {
+            for (int begin = configName.indexOf('['); begin > 0; begin = configName.indexOf('[', begin + 1)) {
+                int end = configName.indexOf(']', begin);
+                if (end < 0) {
+                    break;
+                }
+                try {
+                    int index = Integer.parseInt(configName.substring(begin + 1, end));
+                    indexes.computeIfAbsent(configName.substring(0, begin), k -> new TreeSet<>()).add(index);
+                } catch (NumberFormatException e) {
+                    //NOOP
+                }
+            }
+        }
+
+        Map<String, List<String>> indexedProperties = new HashMap<>(indexes.size());
+        for (Map.Entry<String, Set<Integer>> entry : indexes.entrySet()) {
+            List<String> properties = new ArrayList<>(entry.getValue().size());
+            for (Integer index : entry.getValue()) {
+                properties.add(entry.getKey() + "[" + index + "]");
+            }
+            indexedProperties.put(entry.getKey(), properties);
+        }
+        return indexedProperties;
+    }
+
+    /**
+     * Indicates whether the given type is a type of List or Set.
+     *
+     * @param type the type to check
+     * @return {@code true} if the given type is a type of List or Set, {@code false} otherwise.
+     */
+    private static boolean isCollection(final Type type) {
         return type instanceof ParameterizedType &&
                 (List.class.isAssignableFrom((Class<?>) ((ParameterizedType) type).getRawType()) ||
-                        Set.class.isAssignableFrom((Class<?>) ((ParameterizedType) type).getRawType()))
-                &&
-                !((SmallRyeConfig) config).getIndexedPropertiesIndexes(name).isEmpty();
+                        Set.class.isAssignableFrom((Class<?>) ((ParameterizedType) type).getRawType()));
     }
 
     /**
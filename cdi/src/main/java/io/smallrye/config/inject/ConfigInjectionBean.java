@@ -16,29 +16,25 @@
 package io.smallrye.config.inject;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Optional;
 import java.util.Set;
 
 import javax.enterprise.context.Dependent;
 import javax.enterprise.context.spi.CreationalContext;
-import javax.enterprise.inject.Instance;
-import javax.enterprise.inject.spi.Annotated;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.enterprise.inject.spi.InjectionPoint;
 import javax.enterprise.inject.spi.PassivationCapable;
 import javax.enterprise.util.AnnotationLiteral;
-import javax.inject.Provider;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.config.spi.Converter;
 
-import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.inject.ConfigProducerUtil.InjectionPlan;
 
 /**
  * @author <a href="mailto:struberg@yahoo.de">Mark Struberg</a>
@@ -78,39 +74,17 @@ public class ConfigInjectionBean<T> implements Bean<T>, PassivationCapable {
         return false;
     }
 
+    /**
+     * Creates the value of the custom type with the {@link ConfigProducerUtil.InjectionPlan} of the
+     * {@link InjectionPoint}, which keeps the property name, the default value and the {@link Converter} of the custom
+     * type, instead of inspecting the {@link InjectionPoint} annotations on each creation. The {@link InjectionPoint}
+     * may be a {@link javax.inject.Provider} or {@link javax.enterprise.inject.Instance} of the custom type, so the
+     * value is always converted to the type of this bean.
+     */
     @Override
-    @SuppressWarnings("unchecked")
     public T create(CreationalContext<T> context) {
         InjectionPoint ip = (InjectionPoint) bm.getInjectableReference(new MetadataInjectionPoint(), context);
-        Annotated annotated = ip.getAnnotated();
-        ConfigProperty configProperty = annotated.getAnnotation(ConfigProperty.class);
-        String key = ConfigProducerUtil.getConfigKey(ip, configProperty);
-        String defaultValue = configProperty.defaultValue();
-
-        if (annotated.getBaseType() instanceof ParameterizedType) {
-            ParameterizedType paramType = (ParameterizedType) annotated.getBaseType();
-            Type rawType = paramType.getRawType();
-
-            // handle Provider<T> and Instance<T>
-            if (rawType instanceof Class
-                    && (((Class<?>) rawType).isAssignableFrom(Provider.class)
-                            || ((Class<?>) rawType).isAssignableFrom(Instance.class))
-                    && paramType.getActualTypeArguments().length == 1) {
-                Class<?> paramTypeClass = (Class<?>) paramType.getActualTypeArguments()[0];
-                return (T) getConfig().getValue(key, paramTypeClass);
-            }
-        } else {
-            Class<?> annotatedTypeClass = (Class<?>) annotated.getBaseType();
-            if (defaultValue.length() == 0) {
-                return (T) getConfig().getValue(key, annotatedTypeClass);
-            } else {
-                Optional<T> optionalValue = (Optional<T>) getConfig().getOptionalValue(key, annotatedTypeClass);
-                return optionalValue.orElseGet(
-                        () -> (T) ((SmallRyeConfig) getConfig()).convert(defaultValue, annotatedTypeClass));
-            }
-        }
-
-        throw InjectionMessages.msg.unhandledConfigProperty();
+        return InjectionPlan.of(ip, clazz, getConfig()).getValue();
     }
 
     public Config getConfig() {
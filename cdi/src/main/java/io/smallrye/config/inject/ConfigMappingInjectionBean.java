@@ -1,6 +1,5 @@
 package io.smallrye.config.inject;
 
-import static io.smallrye.config.inject.SecuritySupport.getContextClassLoader;
 import static java.util.Optional.ofNullable;
 
 import java.lang.annotation.Annotation;
@@ -60,7 +59,7 @@ public class ConfigMappingInjectionBean<T> implements Bean<T> {
         InjectionPoint injectionPoint = (InjectionPoint) bm.getInjectableReference(new MetadataInjectionPoint(),
                 creationalContext);
 
-        SmallRyeConfig config = (SmallRyeConfig) ConfigProvider.getConfig(getContextClassLoader());
+        SmallRyeConfig config = (SmallRyeConfig) ConfigProvider.getConfig();
         return config.getConfigMapping(klass, getPrefixFromInjectionPoint(injectionPoint).orElse(prefix));
     }
 
@@ -15,8 +15,6 @@
  */
 package io.smallrye.config.inject;
 
-import static io.smallrye.config.inject.SecuritySupport.getContextClassLoader;
-
 import java.lang.reflect.Type;
 import java.util.*;
 import java.util.function.Supplier;
@@ -32,6 +30,7 @@ import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import io.smallrye.config.ConfigValue;
 import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.inject.ConfigProducerUtil.InjectionPlan;
 
 /**
  * CDI producer for {@link Config} bean.
@@ -42,7 +41,7 @@ import io.smallrye.config.SmallRyeConfig;
 public class ConfigProducer {
     @Produces
     protected SmallRyeConfig getConfig() {
-        return ConfigProvider.getConfig(getContextClassLoader()).unwrap(SmallRyeConfig.class);
+        return ConfigProvider.getConfig().unwrap(SmallRyeConfig.class);
     }
 
     @Dependent
@@ -119,7 +118,8 @@ public class ConfigProducer {
     @Produces
     @ConfigProperty
     protected <T> Supplier<T> produceSupplierConfigValue(InjectionPoint ip) {
-        return () -> ConfigProducerUtil.getValue(ip, getConfig());
+        InjectionPlan plan = InjectionPlan.of(ip, getConfig());
+        return plan::getValue;
     }
 
     @Dependent
@@ -3,10 +3,12 @@ package io.smallrye.config.inject;
 import static io.smallrye.config.Converters.newCollectionConverter;
 import static io.smallrye.config.Converters.newMapConverter;
 import static io.smallrye.config.Converters.newOptionalConverter;
+import static java.util.stream.Collectors.toList;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Member;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -14,15 +16,23 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.spi.Annotated;
 import javax.enterprise.inject.spi.AnnotatedMember;
+import javax.enterprise.inject.spi.AnnotatedParameter;
 import javax.enterprise.inject.spi.AnnotatedType;
 import javax.enterprise.inject.spi.InjectionPoint;
+import javax.inject.Provider;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigValue;
@@ -30,6 +40,7 @@ import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.config.spi.Converter;
 
 import io.smallrye.config.Converters;
+import io.smallrye.config.LookupOptions;
 import io.smallrye.config.SecretKeys;
 import io.smallrye.config.SmallRyeConfig;
 import io.smallrye.config.common.AbstractConverter;
@@ -41,6 +52,12 @@ import io.smallrye.config.common.AbstractDelegatingConverter;
  * @author <a href="https://github.com/guhilling">Gunnar Hilling</a>
  */
 public final class ConfigProducerUtil {
+    /**
+     * Cache the values looked up by {@link Provider}, {@link Instance} or
+     * {@link Supplier} injections until the configuration is reloaded. Disabled by default, because changes in config
+     * sources which are not reloaded (like System properties) would not be visible anymore.
+     */
+    static final String CACHE_DYNAMIC_VALUES = "smallrye.config.inject.cache-dynamic-values";
 
     private ConfigProducerUtil() {
         throw new UnsupportedOperationException();
@@ -55,7 +72,7 @@ public final class ConfigProducerUtil {
      * @return the converted configuration value.
      */
     public static <T> T getValue(InjectionPoint injectionPoint, Config config) {
-        return getValue(getName(injectionPoint), injectionPoint.getType(), getDefaultValue(injectionPoint), config);
+        return InjectionPlan.of(injectionPoint, config).getValue();
     }
 
     /**
@@ -69,51 +86,30 @@ public final class ConfigProducerUtil {
      * @return the converted configuration value.
      */
     public static <T> T getValue(String name, Type type, String defaultValue, Config config) {
-        if (name == null) {
-            return null;
-        }
-        if (hasCollection(type)) {
-            return convertValues(name, type, getRawValue(name, config), defaultValue, config);
-        } else if (hasMap(type)) {
-            return convertValues(name, type, defaultValue, config);
-        }
-
-        return ((SmallRyeConfig) config).convertValue(name, resolveDefault(getRawValue(name, config), defaultValue),
-                resolveConverter(type, config));
+        return new InjectionPlan(name, type, defaultValue, config).getValue();
     }
 
-    /**
-     * Converts the direct sub properties of the given parent property as a Map.
-     *
-     * @param name the name of the parent property for which we want the direct sub properties as a Map.
-     * @param type the {@link Type} of the configuration value to convert.
-     * @param defaultValue the default value to convert in case no sub properties could be found.
-     * @param config the configuration from which the values are retrieved.
-     * @param <T> the expected type of the configuration value to convert.
-     *
-     * @return the converted configuration value.
-     */
-    private static <T> T convertValues(String name, Type type, String defaultValue, Config config) {
-        return ((SmallRyeConfig) config).convertValue(name, null,
-                resolveConverter(type, config, (kC, vC) -> new StaticMapConverter<>(name, defaultValue, config, kC, vC)));
-    }
+    private static <T> T convertValues(String name, Type type, String rawValue, String defaultValue, Config config,
+            Converter<T> converter, Function<String, List<? extends ConfigValue>> indexedValuesLookup) {
+        // If converting a config property which exists (i.e. myProp[1] = aValue) the indexed properties are not required
+        if (rawValue != null) {
+            return ((SmallRyeConfig) config).convertValue(name, rawValue, converter);
+        }
 
-    private static <T> T convertValues(String name, Type type, String rawValue, String defaultValue, Config config) {
-        List<String> indexedProperties = ((SmallRyeConfig) config).getIndexedProperties(name);
-        // If converting a config property which exists (i.e. myProp[1] = aValue) or no indexed properties exist for the config property
-        if (rawValue != null || indexedProperties.isEmpty()) {
-            return ((SmallRyeConfig) config).convertValue(name, resolveDefault(rawValue, defaultValue),
-                    resolveConverter(type, config));
+        // The indexed values are retrieved in bulk, with the secret keys unlocked once
+        List<? extends ConfigValue> indexedValues = SecretKeys.doUnlocked(() -> indexedValuesLookup.apply(name));
+        // If no indexed properties exist for the config property
+        if (indexedValues.isEmpty()) {
+            return ((SmallRyeConfig) config).convertValue(name, defaultValue, converter);
         }
 
         BiFunction<Converter<T>, IntFunction<Collection<T>>, Collection<T>> indexedConverter = (itemConverter,
                 collectionFactory) -> {
-            Collection<T> collection = collectionFactory.apply(indexedProperties.size());
-            for (String indexedProperty : indexedProperties) {
+            Collection<T> collection = collectionFactory.apply(indexedValues.size());
+            for (ConfigValue indexedValue : indexedValues) {
                 // Never null by the rules of converValue
-                collection.add(
-                        ((SmallRyeConfig) config).convertValue(indexedProperty, getRawValue(indexedProperty, config),
-                                itemConverter));
+                collection.add(((SmallRyeConfig) config).convertValue(indexedValue.getName(), indexedValue.getValue(),
+                        itemConverter));
             }
             return collection;
         };
@@ -122,15 +118,15 @@ public final class ConfigProducerUtil {
     }
 
     static ConfigValue getConfigValue(InjectionPoint injectionPoint, Config config) {
-        String name = getName(injectionPoint);
-        if (name == null) {
+        InjectionPlan plan = InjectionPlan.of(injectionPoint, config);
+        if (plan.name == null) {
             return null;
         }
 
-        ConfigValue configValue = config.getConfigValue(name);
+        ConfigValue configValue = config.getConfigValue(plan.name);
         if (configValue.getRawValue() == null) {
             if (configValue instanceof io.smallrye.config.ConfigValue) {
-                configValue = ((io.smallrye.config.ConfigValue) configValue).withValue(getDefaultValue(injectionPoint));
+                configValue = ((io.smallrye.config.ConfigValue) configValue).withValue(plan.defaultValue);
             }
         }
 
@@ -138,7 +134,7 @@ public final class ConfigProducerUtil {
     }
 
     static String getRawValue(String name, Config config) {
-        return SecretKeys.doUnlocked(() -> config.getConfigValue(name).getValue());
+        return ((SmallRyeConfig) config).getConfigValue(name, LookupOptions.DEFAULT.unlockSecrets()).getValue();
     }
 
     private static String resolveDefault(String rawValue, String defaultValue) {
@@ -268,14 +264,14 @@ public final class ConfigProducerUtil {
         return null;
     }
 
-    private static String getDefaultValue(InjectionPoint injectionPoint) {
+    private static String getDefaultValue(InjectionPoint injectionPoint, Type type) {
         for (Annotation qualifier : injectionPoint.getQualifiers()) {
             if (qualifier.annotationType().equals(ConfigProperty.class)) {
                 String str = ((ConfigProperty) qualifier).defaultValue();
                 if (!ConfigProperty.UNCONFIGURED_VALUE.equals(str)) {
                     return str;
                 }
-                Class<?> rawType = rawTypeOf(injectionPoint.getType());
+                Class<?> rawType = rawTypeOf(type);
                 if (rawType.isPrimitive()) {
                     if (rawType == char.class) {
                         return null;
@@ -312,6 +308,262 @@ public final class ConfigProducerUtil {
         throw InjectionMessages.msg.noConfigPropertyDefaultName(ip);
     }
 
+    /**
+     * The resolution plan of a configuration value injection: the property name, the default value and the
+     * {@link Converter} composed for the injection type. Plans of an {@link InjectionPoint} are cached on the class
+     * declaring it, so that injecting the value again (for instance in a {@code @RequestScoped} bean) does not
+     * recompute the name from the annotations or walk the injection type to build new converters. Plans are bound to
+     * the {@link Config} they were built for, and are rebuilt if the injection point is resolved with another one.
+     * <p>
+     * A value resolved ahead of the injection (during the deployment validation) may be handed to the first
+     * injection, if the configuration was not reloaded in the meantime.
+     */
+    static final class InjectionPlan {
+        private static final AtomicReferenceFieldUpdater<InjectionPlan, Resolved> RESOLVED = AtomicReferenceFieldUpdater
+                .newUpdater(InjectionPlan.class, Resolved.class, "resolved");
+
+        private static final ClassValue<Map<Key, InjectionPlan>> PLANS = new ClassValue<Map<Key, InjectionPlan>>() {
+            @Override
+            protected Map<Key, InjectionPlan> computeValue(final Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+        private final Config config;
+        private final String name;
+        private final Type type;
+        private final String defaultValue;
+        /**
+         * Resolved lazily, since some injection types (like {@link ConfigValue}) do not require a {@link Converter}.
+         */
+        private volatile Converter<?> converter;
+        private boolean collection;
+        private boolean map;
+        private volatile Resolved resolved;
+        /**
+         * If the value is cached for the lookups of a {@link Provider}, {@link Instance}
+         * or {@link Supplier}, until the configuration version changes.
+         */
+        private final boolean cached;
+        private volatile Resolved current;
+
+        InjectionPlan(final String name, final Type type, final String defaultValue, final Config config) {
+            this(name, type, defaultValue, config, false);
+        }
+
+        InjectionPlan(final String name, final Type type, final String defaultValue, final Config config,
+                final boolean cached) {
+            this.config = config;
+            this.name = name;
+            this.type = type;
+            this.defaultValue = defaultValue;
+            this.cached = cached;
+        }
+
+        static InjectionPlan of(final InjectionPoint injectionPoint, final Config config) {
+            return of(injectionPoint, injectionPoint.getType(), config);
+        }
+
+        /**
+         * Gets the plan of an {@link InjectionPoint}, to convert the value to the given type instead of the type of
+         * the {@link InjectionPoint}. The types differ when the value is looked up with a {@link Provider}
+         * or {@link Instance}.
+         */
+        static InjectionPlan of(final InjectionPoint injectionPoint, final Type type, final Config config) {
+            Key key = Key.of(injectionPoint, type);
+            if (key == null) {
+                return new InjectionPlan(getName(injectionPoint), type, getDefaultValue(injectionPoint, type), config);
+            }
+
+            Map<Key, InjectionPlan> plans = PLANS.get(key.declaringClass);
+            InjectionPlan plan = plans.get(key);
+            if (plan == null || plan.config != config) {
+                plan = new InjectionPlan(getName(injectionPoint), type, getDefaultValue(injectionPoint, type), config,
+                        isDynamic(injectionPoint) && isCacheDynamicValues(config));
+                plans.put(key, plan);
+            }
+            return plan;
+        }
+
+        /**
+         * Indicates whether the value of the {@link InjectionPoint} is looked up on each call of a
+         * {@link Provider}, {@link Instance} or {@link Supplier}.
+         */
+        private static boolean isDynamic(final InjectionPoint injectionPoint) {
+            Type baseType = injectionPoint.getAnnotated() != null ? injectionPoint.getAnnotated().getBaseType()
+                    : injectionPoint.getType();
+            if (baseType instanceof ParameterizedType) {
+                Type rawType = ((ParameterizedType) baseType).getRawType();
+                return rawType == Provider.class || rawType == Instance.class
+                        || rawType == Supplier.class;
+            }
+            return false;
+        }
+
+        private static boolean isCacheDynamicValues(final Config config) {
+            return config instanceof SmallRyeConfig
+                    && config.getOptionalValue(CACHE_DYNAMIC_VALUES, Boolean.class).orElse(false);
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T getValue() {
+            if (name == null) {
+                return null;
+            }
+
+            if (cached) {
+                // read the version before the lookup, so a change during the lookup is picked up by the next call
+                long version = ((SmallRyeConfig) config).getVersion();
+                Resolved current = this.current;
+                if (current == null || current.version != version) {
+                    current = new Resolved(getValue(getConverter(), map ? null : getRawValue(name, config),
+                            ((SmallRyeConfig) config)::getIndexedConfigValues), version);
+                    this.current = current;
+                }
+                return (T) current.value;
+            }
+
+            if (resolved != null) {
+                Resolved resolved = RESOLVED.getAndSet(this, null);
+                if (resolved != null && resolved.version == ((SmallRyeConfig) config).getVersion()) {
+                    return (T) resolved.value;
+                }
+            }
+
+            Converter<T> converter = getConverter();
+            return getValue(converter, map ? null : getRawValue(name, config),
+                    ((SmallRyeConfig) config)::getIndexedConfigValues);
+        }
+
+        /**
+         * Resolves the value of the injection point and keeps it for the next injection.
+         *
+         * @param rawValue the raw value of the property, already read from the configuration
+         * @param indexedProperties the indexed properties of the property, if it is a collection
+         */
+        void resolve(final String rawValue, final List<String> indexedProperties) {
+            long version = ((SmallRyeConfig) config).getVersion();
+            this.resolved = new Resolved(getValue(getConverter(), rawValue, property -> indexedProperties.stream()
+                    .map(config::getConfigValue)
+                    .collect(toList())), version);
+        }
+
+        private <T> T getValue(final Converter<T> converter, final String rawValue,
+                final Function<String, List<? extends ConfigValue>> indexedValues) {
+            if (collection) {
+                return convertValues(name, type, rawValue, defaultValue, config, converter, indexedValues);
+            } else if (map) {
+                return ((SmallRyeConfig) config).convertValue(name, null, converter);
+            }
+
+            return ((SmallRyeConfig) config).convertValue(name, resolveDefault(rawValue, defaultValue), converter);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> Converter<T> getConverter() {
+            Converter<T> converter = (Converter<T>) this.converter;
+            return converter != null ? converter : resolveConverter();
+        }
+
+        private <T> Converter<T> resolveConverter() {
+            Converter<T> converter;
+            collection = hasCollection(type);
+            map = !collection && hasMap(type);
+            if (map) {
+                converter = ConfigProducerUtil.resolveConverter(type, config,
+                        (kC, vC) -> new StaticMapConverter<>(name, defaultValue, config, kC, vC));
+            } else {
+                converter = ConfigProducerUtil.resolveConverter(type, config);
+            }
+            // collection and map are published by the volatile write
+            this.converter = converter;
+            return converter;
+        }
+
+        private static final class Resolved {
+            private final Object value;
+            private final long version;
+
+            Resolved(final Object value, final long version) {
+                this.value = value;
+                this.version = version;
+            }
+        }
+    }
+
+    /**
+     * Identifies an {@link InjectionPoint} independently of the {@link InjectionPoint} instance, which may be created
+     * for each injection.
+     */
+    static final class Key {
+        private final Class<?> declaringClass;
+        private final Member member;
+        private final int position;
+        private final Type type;
+        private final ConfigProperty configProperty;
+
+        private Key(final Class<?> declaringClass, final Member member, final int position, final Type type,
+                final ConfigProperty configProperty) {
+            this.declaringClass = declaringClass;
+            this.member = member;
+            this.position = position;
+            this.type = type;
+            this.configProperty = configProperty;
+        }
+
+        static Key of(final InjectionPoint injectionPoint, final Type type) {
+            Member member = injectionPoint.getMember();
+            Annotated annotated = injectionPoint.getAnnotated();
+            if (member == null || annotated == null) {
+                return null;
+            }
+
+            ConfigProperty configProperty = null;
+            for (Annotation qualifier : injectionPoint.getQualifiers()) {
+                if (qualifier.annotationType().equals(ConfigProperty.class)) {
+                    configProperty = (ConfigProperty) qualifier;
+                    break;
+                }
+            }
+            if (configProperty == null) {
+                return null;
+            }
+
+            AnnotatedType<?> declaringType;
+            int position = -1;
+            if (annotated instanceof AnnotatedMember) {
+                declaringType = ((AnnotatedMember<?>) annotated).getDeclaringType();
+            } else if (annotated instanceof AnnotatedParameter) {
+                AnnotatedParameter<?> parameter = (AnnotatedParameter<?>) annotated;
+                declaringType = parameter.getDeclaringCallable().getDeclaringType();
+                position = parameter.getPosition();
+            } else {
+                return null;
+            }
+
+            Class<?> declaringClass = declaringType != null ? declaringType.getJavaClass() : member.getDeclaringClass();
+            return new Key(declaringClass, member, position, type, configProperty);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return position == key.position && declaringClass.equals(key.declaringClass) && member.equals(key.member)
+                    && type.equals(key.type) && configProperty.equals(key.configProperty);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(declaringClass, member, position, type, configProperty);
+        }
+    }
+
     static final class IndexedCollectionConverter<T, C extends Collection<T>> extends AbstractDelegatingConverter<T, C> {
         private static final long serialVersionUID = 5186940408317652618L;
 
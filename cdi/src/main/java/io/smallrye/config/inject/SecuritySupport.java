@@ -1,47 +0,0 @@
-/*
- * Copyright 2018 Red Hat, Inc.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *   http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-
-package io.smallrye.config.inject;
-
-import java.security.AccessController;
-import java.security.PrivilegedAction;
-
-import io.smallrye.config.ConfigLogging;
-
-/**
- * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2018 Red Hat inc.
- */
-class SecuritySupport {
-    private SecuritySupport() {
-    }
-
-    static ClassLoader getContextClassLoader() {
-        if (System.getSecurityManager() == null) {
-            return Thread.currentThread().getContextClassLoader();
-        } else {
-            return AccessController.doPrivileged((PrivilegedAction<ClassLoader>) () -> {
-                ClassLoader tccl = null;
-                try {
-                    tccl = Thread.currentThread().getContextClassLoader();
-                } catch (SecurityException ex) {
-                    ConfigLogging.log.failedToRetrieveClassloader(ex);
-                }
-                return tccl;
-            });
-        }
-    }
-
-}
@@ -0,0 +1,125 @@
+package io.smallrye.config.inject;
+
+import static io.smallrye.config.inject.ConfigProducerUtil.CACHE_DYNAMIC_VALUES;
+import static io.smallrye.config.inject.KeyValuesConfigSource.config;
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.smallrye.config.MapBackedReloadableConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+@ExtendWith(WeldJunit5Extension.class)
+class CachedDynamicValuesInjectionTest {
+    static final MapBackedReloadableConfigSource RELOADABLE = new MapBackedReloadableConfigSource("reloadable",
+            singletonMap("my.prop", "1"));
+
+    @WeldSetup
+    WeldInitiator weld = WeldInitiator.from(ConfigExtension.class, DynamicBean.class)
+            .addBeans()
+            .activate(ApplicationScoped.class)
+            .inject(this)
+            .build();
+
+    @Inject
+    DynamicBean dynamicBean;
+
+    @Test
+    void cachedUntilReload() {
+        assertEquals(1, dynamicBean.getProvider().get().intValue());
+        assertEquals(1, dynamicBean.getSupplier().get().intValue());
+        assertEquals(1, dynamicBean.getCounter().get().intValue());
+        assertEquals(1, dynamicBean.getCounter().get().intValue());
+
+        RELOADABLE.publish(singletonMap("my.prop", "2"));
+        assertEquals(2, dynamicBean.getProvider().get().intValue());
+        assertEquals(2, dynamicBean.getSupplier().get().intValue());
+        assertEquals(2, dynamicBean.getCounter().get().intValue());
+        assertEquals(2, dynamicBean.getCounter().get().intValue());
+    }
+
+    @ApplicationScoped
+    static class DynamicBean {
+        @Inject
+        @ConfigProperty(name = "my.prop")
+        Provider<Integer> provider;
+        @Inject
+        @ConfigProperty(name = "my.prop")
+        Supplier<Integer> supplier;
+        @Inject
+        @ConfigProperty(name = "my.counter")
+        Supplier<Integer> counter;
+
+        Provider<Integer> getProvider() {
+            return provider;
+        }
+
+        Supplier<Integer> getSupplier() {
+            return supplier;
+        }
+
+        Supplier<Integer> getCounter() {
+            return counter;
+        }
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(RELOADABLE)
+                .withSources(config(CACHE_DYNAMIC_VALUES, "true"))
+                .withSources(new ConfigSource() {
+                    int counter = 1;
+
+                    @Override
+                    public Map<String, String> getProperties() {
+                        return new HashMap<>();
+                    }
+
+                    @Override
+                    public Set<String> getPropertyNames() {
+                        return new HashSet<>();
+                    }
+
+                    @Override
+                    public String getValue(final String propertyName) {
+                        return "my.counter".equals(propertyName) ? "" + counter++ : null;
+                    }
+
+                    @Override
+                    public String getName() {
+                        return this.getClass().getName();
+                    }
+                })
+                .addDefaultInterceptors()
+                .build();
+        ConfigProviderResolver.instance().registerConfig(config, Thread.currentThread().getContextClassLoader());
+    }
+
+    @AfterAll
+    static void afterAll() {
+        ConfigProviderResolver.instance().releaseConfig(ConfigProvider.getConfig());
+    }
+}
@@ -18,6 +18,7 @@ import java.util.function.Supplier;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
+import javax.inject.Provider;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
@@ -121,6 +122,13 @@ class ConfigInjectionTest {
         assertFalse(configBean.getConvertedValueOptional().isPresent());
     }
 
+    @Test
+    void customTypes() {
+        assertEquals(new Version(1, "The version 1.2.3"), configBean.getVersion());
+        assertEquals(new Version(2, "The version 2.0.0"), configBean.getVersionProvider().get());
+        assertEquals(new Version(3, "The version 3"), configBean.getVersionCustomDefault());
+    }
+
     @ApplicationScoped
     static class ConfigBean {
         @Inject
@@ -181,6 +189,15 @@ class ConfigInjectionTest {
         @Inject
         @ConfigProperty(name = "converted")
         Optional<ConvertedValue> convertedValueOptional;
+        @Inject
+        @ConfigProperty(name = "versions.v1")
+        Version version;
+        @Inject
+        @ConfigProperty(name = "versions.v2")
+        Provider<Version> versionProvider;
+        @Inject
+        @ConfigProperty(name = "default.custom.version", defaultValue = "3.The version 3")
+        Version versionCustomDefault;
 
         Optional<Map<Integer, String>> getReasonsOptional() {
             return reasonsOptional;
@@ -261,6 +278,18 @@ class ConfigInjectionTest {
         Optional<ConvertedValue> getConvertedValueOptional() {
             return convertedValueOptional;
         }
+
+        Version getVersion() {
+            return version;
+        }
+
+        Provider<Version> getVersionProvider() {
+            return versionProvider;
+        }
+
+        Version getVersionCustomDefault() {
+            return versionCustomDefault;
+        }
     }
 
     @BeforeAll
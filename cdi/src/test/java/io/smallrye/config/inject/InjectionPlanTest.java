@@ -0,0 +1,85 @@
+package io.smallrye.config.inject;
+
+import static io.smallrye.config.inject.KeyValuesConfigSource.config;
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.config.inject.ConfigProducerUtil.InjectionPlan;
+
+@ExtendWith(WeldJunit5Extension.class)
+class InjectionPlanTest {
+    @WeldSetup
+    WeldInitiator weld = WeldInitiator.from(ConfigExtension.class, InjectionPlanTest.class)
+            .addBeans()
+            .inject(this)
+            .build();
+
+    @Inject
+    BeanManager beanManager;
+    @Inject
+    @ConfigProperty(name = "my.list")
+    List<Integer> list;
+
+    @Test
+    void plan() {
+        assertEquals(3, list.size());
+
+        InjectionPoint injectionPoint = beanManager.getBeans(InjectionPlanTest.class).iterator().next().getInjectionPoints()
+                .stream()
+                .filter(ip -> ip.getAnnotated().isAnnotationPresent(ConfigProperty.class))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+
+        SmallRyeConfig config = ConfigProvider.getConfig().unwrap(SmallRyeConfig.class);
+        InjectionPlan plan = InjectionPlan.of(injectionPoint, config);
+        assertSame(plan, InjectionPlan.of(injectionPoint, config));
+        assertEquals(list, plan.getValue());
+
+        SmallRyeConfig other = new SmallRyeConfigBuilder().withSources(config("my.list", "4,5")).build();
+        InjectionPlan otherPlan = InjectionPlan.of(injectionPoint, other);
+        assertNotSame(plan, otherPlan);
+        assertEquals(2, otherPlan.<List<Integer>> getValue().size());
+        assertSame(otherPlan, InjectionPlan.of(injectionPoint, other));
+
+        // a resolved value is handed to the next injection only
+        otherPlan.resolve("7,8,9", emptyList());
+        assertEquals(Arrays.asList(7, 8, 9), otherPlan.getValue());
+        assertEquals(Arrays.asList(4, 5), otherPlan.getValue());
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.list", "1,2,3"))
+                .addDefaultInterceptors()
+                .build();
+        ConfigProviderResolver.instance().registerConfig(config, Thread.currentThread().getContextClassLoader());
+    }
+
+    @AfterAll
+    static void afterAll() {
+        ConfigProviderResolver.instance().releaseConfig(ConfigProvider.getConfig());
+    }
+}
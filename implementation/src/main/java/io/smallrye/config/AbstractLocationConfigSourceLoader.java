@@ -214,8 +214,10 @@ public abstract class AbstractLocationConfigSourceLoader {
 
     private ConfigSource addConfigSource(final URL url, final int ordinal, final List<ConfigSource> configSources) {
         try {
-            configSources.add(loadConfigSource(url, ordinal));
-            return loadConfigSource(url, ordinal);
+            final ConfigSource configSource = loadConfigSource(url, ordinal);
+            ConfigSnapshot.recordInput(url, configSource);
+            configSources.add(configSource);
+            return configSource;
         } catch (IOException e) {
             throw ConfigMessages.msg.failedToLoadResource(e);
         }
@@ -224,7 +226,9 @@ public abstract class AbstractLocationConfigSourceLoader {
     private void addProfileConfigSource(final URL profileToFileName, final int ordinal,
             final List<ConfigSource> profileSources) {
         try {
-            profileSources.add(loadConfigSource(profileToFileName, ordinal));
+            final ConfigSource configSource = loadConfigSource(profileToFileName, ordinal);
+            ConfigSnapshot.recordInput(profileToFileName, configSource);
+            profileSources.add(configSource);
         } catch (FileNotFoundException | NoSuchFileException e) {
             // It is ok to not find the resource here, because it is an optional profile resource.
         } catch (IOException e) {
@@ -0,0 +1,27 @@
+package io.smallrye.config;
+
+import java.util.Set;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A listener notified when configuration values change, either in a single {@link ReloadableConfigSource} or in the
+ * whole {@link SmallRyeConfig}.
+ * <p>
+ *
+ * Listeners are called by the thread that published the change, or, for a {@link SmallRyeConfig}, by the thread
+ * delivering a previous change of the same config. Notifications of the same {@link SmallRyeConfig} or
+ * {@link ReloadableConfigSource} are never concurrent, and are delivered in the order of the changes. A
+ * {@link SmallRyeConfig} notifies its listeners without holding any lock, so a listener may reload the configuration.
+ */
+@Experimental("Notification of configuration changes")
+@FunctionalInterface
+public interface ConfigChangeListener {
+    /**
+     * Called after the configuration values changed. When the listener is called, the new values are already
+     * visible to every lookup.
+     *
+     * @param names the names of the properties that were added, removed or changed
+     */
+    void onChange(Set<String> names);
+}
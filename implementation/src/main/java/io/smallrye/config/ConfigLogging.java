@@ -34,4 +34,24 @@ public interface ConfigLogging extends BasicLogger {
     @LogMessage(level = Logger.Level.WARN)
     @Message(id = 1005, value = "Could not find sources with %s in %s")
     void configLocationsNotFound(String name, String value);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 1007, value = "Unable to read the configuration snapshot %s. The configuration is loaded from the sources")
+    void failedToReadSnapshot(@Cause Throwable cause, String file);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 1008, value = "The configuration snapshot %s is outdated. The configuration is loaded from the sources")
+    void outdatedSnapshot(String file);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 1009, value = "Unable to write the configuration snapshot %s")
+    void failedToWriteSnapshot(@Cause Throwable cause, String file);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 1010, value = "The configuration snapshot %s was not written, because the source %s is not read from a resource")
+    void snapshotSourceNotSupported(String file, String source);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 1011, value = "The configuration snapshot %s was not written, because a source factory iterates the configuration names")
+    void snapshotNamesNotSupported(String file);
 }
@@ -785,7 +785,7 @@ final class ConfigMappingProvider implements Serializable {
         mapConfiguration(config, config.getConfigMappings());
     }
 
-    private void mapConfiguration(SmallRyeConfig config, ConfigMappings mappings) throws ConfigValidationException {
+    void mapConfiguration(SmallRyeConfig config, ConfigMappings mappings) throws ConfigValidationException {
         if (roots.isEmpty()) {
             return;
         }
@@ -830,7 +830,7 @@ final class ConfigMappingProvider implements Serializable {
         }
         context.fillInOptionals();
 
-        mappings.registerConfigMappings(context.getRootsMap());
+        mappings.registerConfigMappings(this, context.getRootsMap());
     }
 
     private boolean isPropertyInRoot(NameIterator propertyName) {
@@ -5,27 +5,91 @@ import static io.smallrye.config.SmallRyeConfig.SMALLRYE_CONFIG_MAPPING_VALIDATE
 import static java.lang.Boolean.TRUE;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.eclipse.microprofile.config.inject.ConfigProperties;
 
 public final class ConfigMappings implements Serializable {
     private static final long serialVersionUID = -7790784345796818526L;
+    private static final ClassValue<String> annotationPrefixes = new ClassValue<String>() {
+        @Override
+        protected String computeValue(final Class<?> type) {
+            final ConfigMapping configMapping = type.getAnnotation(ConfigMapping.class);
+            if (configMapping != null) {
+                return configMapping.prefix();
+            }
+            final ConfigProperties configProperties = type.getAnnotation(ConfigProperties.class);
+            return configProperties != null ? configProperties.prefix() : "";
+        }
+    };
 
     private final ConfigValidator configValidator;
-    private final ConcurrentMap<Class<?>, Map<String, ConfigMappingObject>> mappings;
+    /**
+     * The registered mappings with their cache of mapped and validated objects. Registering mappings replaces it
+     * with a new instance, so an object retrieved from the previous mappings is never cached with the new ones.
+     * The mappings record the version of the config values they were mapped from.
+     */
+    private volatile Mappings mappings;
+    /**
+     * The providers that registered mappings, kept to map the configuration again when the config values change.
+     */
+    private final Set<ConfigMappingProvider> providers;
 
     ConfigMappings(final ConfigValidator configValidator) {
         this.configValidator = configValidator;
-        this.mappings = new ConcurrentHashMap<>();
+        this.mappings = new Mappings(new HashMap<>(), 0);
+        this.providers = new CopyOnWriteArraySet<>();
+    }
+
+    void registerConfigMappings(final ConfigMappingProvider provider,
+            final Map<Class<?>, Map<String, ConfigMappingObject>> mappings) {
+        this.providers.add(provider);
+        registerConfigMappings(mappings);
+    }
+
+    synchronized void registerConfigMappings(final Map<Class<?>, Map<String, ConfigMappingObject>> mappings) {
+        final Map<Class<?>, Map<String, ConfigMappingObject>> registered = new HashMap<>(this.mappings.mappings);
+        registered.putAll(mappings);
+        this.mappings = new Mappings(registered, this.mappings.version);
+    }
+
+    /**
+     * Map the configuration again with every provider that registered mappings, after the config values changed. The
+     * mappings are not registered, so the caller can publish them with the changed values, with
+     * {@link #publish(Mappings)}.
+     *
+     * @param config the config with the changed values
+     * @param version the version of the changed values
+     * @return the new mappings
+     * @throws ConfigValidationException if the configuration cannot be mapped
+     */
+    Mappings remapConfiguration(final SmallRyeConfig config, final long version) throws ConfigValidationException {
+        final Mappings mappings = this.mappings;
+        if (providers.isEmpty()) {
+            return new Mappings(mappings.mappings, mappings.validated, version);
+        }
+
+        final ConfigMappings remapped = new ConfigMappings(configValidator);
+        for (ConfigMappingProvider provider : providers) {
+            provider.mapConfiguration(config, remapped);
+        }
+        return new Mappings(remapped.mappings.mappings, version);
+    }
+
+    synchronized void publish(final Mappings mappings) {
+        this.mappings = mappings;
     }
 
-    void registerConfigMappings(final Map<Class<?>, Map<String, ConfigMappingObject>> mappings) {
-        this.mappings.putAll(mappings);
+    /**
+     * @return the version of the config values of the registered mappings
+     */
+    long getVersion() {
+        return mappings.version;
     }
 
     public static void registerConfigMappings(final SmallRyeConfig config, final Set<ConfigClassWithPrefix> configClasses)
@@ -55,12 +119,7 @@ public final class ConfigMappings implements Serializable {
     }
 
     <T> T getConfigMapping(Class<T> type) {
-        final String prefix = Optional.ofNullable(type.getAnnotation(ConfigMapping.class))
-                .map(ConfigMapping::prefix)
-                .orElseGet(() -> Optional.ofNullable(type.getAnnotation(ConfigProperties.class)).map(ConfigProperties::prefix)
-                        .orElse(""));
-
-        return getConfigMapping(type, prefix);
+        return getConfigMapping(type, annotationPrefixes.get(type));
     }
 
     <T> T getConfigMapping(Class<T> type, String prefix) {
@@ -68,7 +127,16 @@ public final class ConfigMappings implements Serializable {
             return getConfigMapping(type);
         }
 
-        final Map<String, ConfigMappingObject> mappingsForType = mappings.get(getConfigMappingClass(type));
+        final Mappings mappings = this.mappings;
+        final Map<String, Object> validatedForType = mappings.validated.get(type);
+        if (validatedForType != null) {
+            final Object validated = validatedForType.get(prefix);
+            if (validated != null) {
+                return type.cast(validated);
+            }
+        }
+
+        final Map<String, ConfigMappingObject> mappingsForType = mappings.mappings.get(getConfigMappingClass(type));
         if (mappingsForType == null) {
             throw ConfigMessages.msg.mappingNotFound(type.getName());
         }
@@ -85,7 +153,9 @@ public final class ConfigMappings implements Serializable {
 
         configValidator.validateMapping(type, prefix, value);
 
-        return type.cast(value);
+        final Object validated = mappings.validated.computeIfAbsent(type, k -> new ConcurrentHashMap<>()).putIfAbsent(prefix,
+                value);
+        return type.cast(validated != null ? validated : value);
     }
 
     static String getPrefix(Class<?> type) {
@@ -93,6 +163,29 @@ public final class ConfigMappings implements Serializable {
         return configMapping != null ? configMapping.prefix() : "";
     }
 
+    static final class Mappings implements Serializable {
+        private static final long serialVersionUID = 2950452434463347478L;
+
+        private final Map<Class<?>, Map<String, ConfigMappingObject>> mappings;
+        /**
+         * The mapped and validated objects, by requested type and prefix. Once a mapping is successfully retrieved, any
+         * subsequent retrieval of the same type and prefix is served from here.
+         */
+        private final ConcurrentMap<Class<?>, ConcurrentMap<String, Object>> validated;
+        private final long version;
+
+        Mappings(final Map<Class<?>, Map<String, ConfigMappingObject>> mappings, final long version) {
+            this(mappings, new ConcurrentHashMap<>(), version);
+        }
+
+        Mappings(final Map<Class<?>, Map<String, ConfigMappingObject>> mappings,
+                final ConcurrentMap<Class<?>, ConcurrentMap<String, Object>> validated, final long version) {
+            this.mappings = mappings;
+            this.validated = validated;
+            this.version = version;
+        }
+    }
+
     public static final class ConfigClassWithPrefix {
         private final Class<?> klass;
         private final String prefix;
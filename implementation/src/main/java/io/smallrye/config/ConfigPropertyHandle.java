@@ -0,0 +1,134 @@
+package io.smallrye.config;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.spi.Converter;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A handle to a single configuration property, obtained with {@link SmallRyeConfig#handle(String, Class)}.
+ * <p>
+ *
+ * The handle binds the property name and the {@link Converter} once. The property is looked up and converted on the
+ * first access, and the result is kept in the handle, so every subsequent access only compares the
+ * {@link SmallRyeConfig#getVersion()}, without going through the interceptor chain, the config sources or the converter
+ * lookup again. When the configuration values change, the property is looked up again on the next access. Code that
+ * reads the same property repeatedly should obtain a handle once and keep it.
+ *
+ * @param <T> the property type
+ */
+@Experimental("Precomputed handle to read a configuration property repeatedly")
+public final class ConfigPropertyHandle<T> {
+    private final SmallRyeConfig config;
+    private final String name;
+    private final Converter<T> converter;
+
+    private volatile Resolved<T> resolved;
+
+    ConfigPropertyHandle(final SmallRyeConfig config, final String name, final Converter<T> converter) {
+        this.config = config;
+        this.name = name;
+        this.converter = converter;
+    }
+
+    /**
+     * Get the property name of this handle.
+     *
+     * @return the property name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the converted value of the property.
+     *
+     * @return the converted value of the property
+     * @throws IllegalArgumentException if the property cannot be converted to the handle type
+     * @throws NoSuchElementException if the property is not defined or is defined as an empty string
+     */
+    public T get() {
+        final Resolved<T> resolved = resolved();
+        if (resolved.value != null) {
+            return resolved.value;
+        }
+        // reports the missing or invalid value
+        return config.convertValue(name, resolved.configValue.getValue(), converter);
+    }
+
+    /**
+     * Get the converted value of the property, or an empty {@link Optional} if the property is not defined or is
+     * defined as an empty string.
+     *
+     * @return the converted value of the property as an {@link Optional}
+     * @throws IllegalArgumentException if the property cannot be converted to the handle type
+     */
+    public Optional<T> getOptional() {
+        final Resolved<T> resolved = resolved();
+        if (resolved.optional == null) {
+            // reports the invalid value
+            config.convertValue(name, resolved.configValue.getValue(), converter);
+        }
+        return resolved.optional;
+    }
+
+    /**
+     * Get the {@link ConfigValue} of the property, with the metadata of the lookup.
+     *
+     * @return the {@link ConfigValue} of the property
+     */
+    public ConfigValue getConfigValue() {
+        return resolved().configValue;
+    }
+
+    private Resolved<T> resolved() {
+        Resolved<T> resolved = this.resolved;
+        if (resolved == null || resolved.version != config.getVersion()) {
+            resolved = resolve();
+            this.resolved = resolved;
+        }
+        return resolved;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Resolved<T> resolve() {
+        // read the version before the lookup, so a change during the lookup is picked up by the next access
+        final long version = config.getVersion();
+        final ConfigValue configValue = config.getConfigValue(name);
+        if (ConfigValueConverter.CONFIG_VALUE_CONVERTER.equals(converter)) {
+            return new Resolved<>(version, configValue, (T) configValue, Optional.of((T) configValue));
+        }
+
+        final String value = configValue.getValue();
+        if (value == null) {
+            return new Resolved<>(version, configValue, null, Optional.empty());
+        }
+
+        try {
+            final T converted = converter.convert(value);
+            return new Resolved<>(version, configValue, converted, Optional.ofNullable(converted));
+        } catch (IllegalArgumentException e) {
+            return new Resolved<>(version, configValue, null, null);
+        }
+    }
+
+    /**
+     * The result of the property lookup and conversion. The value and the optional are {@code null} if the lookup
+     * requires an error to be reported on access.
+     */
+    private static final class Resolved<T> {
+        private final long version;
+        private final ConfigValue configValue;
+        private final T value;
+        private final Optional<T> optional;
+
+        Resolved(final long version, final ConfigValue configValue, final T value, final Optional<T> optional) {
+            this.version = version;
+            this.configValue = configValue;
+            this.value = value;
+            this.optional = optional;
+        }
+    }
+}
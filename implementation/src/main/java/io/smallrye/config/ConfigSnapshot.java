@@ -0,0 +1,490 @@
+package io.smallrye.config;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.smallrye.config.common.MapBackedConfigSource;
+
+/**
+ * A binary snapshot of the discovered config sources, to skip the discovery and the parsing of the sources when the
+ * inputs did not change. The snapshot is written and read by the {@link SmallRyeConfig}, when the
+ * {@link SmallRyeConfigBuilder#withSnapshot(Path)} is set.
+ * <p>
+ *
+ * The snapshot keeps the contents of every discovered source, with the SHA-256 digest of the resource each source was
+ * read from, the active profiles and the values looked up by the {@link ConfigSourceFactory}. The snapshot is only
+ * used if all the resources have the same digest, and if the profiles and the values looked up by the factories are
+ * the same. A snapshot is only written if every discovered source was read from a resource.
+ */
+final class ConfigSnapshot {
+    private static final int MAGIC = 0x53524353;
+    private static final int FORMAT_VERSION = 1;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final ThreadLocal<Recorder> RECORDER = new ThreadLocal<>();
+
+    private final List<String> profiles;
+    private final Map<String, String> lookups;
+    private final Map<String, byte[]> inputs;
+    private final List<ConfigSource> sources;
+
+    private ConfigSnapshot(final List<String> profiles, final Map<String, String> lookups, final Map<String, byte[]> inputs,
+            final List<ConfigSource> sources) {
+        this.profiles = profiles;
+        this.lookups = lookups;
+        this.inputs = inputs;
+        this.sources = sources;
+    }
+
+    /**
+     * The sources of the snapshot, to use in place of the discovered sources.
+     *
+     * @return the sources of the snapshot
+     */
+    List<ConfigSource> getConfigSources() {
+        return sources;
+    }
+
+    /**
+     * Checks if the configuration built with the sources of the snapshot has the same profiles and the same values
+     * for the names looked up by the factories, when the snapshot was written.
+     *
+     * @param profiles the active profiles
+     * @param interceptorChain the interceptor chain built with the sources of the snapshot
+     * @return {@code true} if the snapshot matches the configuration, {@code false} otherwise
+     */
+    boolean matches(final List<String> profiles, final ConfigSourceInterceptorContext interceptorChain) {
+        if (!this.profiles.equals(profiles)) {
+            return false;
+        }
+        for (Map.Entry<String, String> lookup : lookups.entrySet()) {
+            final ConfigValue value = interceptorChain.proceed(lookup.getKey());
+            if (!Objects.equals(lookup.getValue(), value != null ? value.getValue() : null)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the snapshot, if the snapshot file exists and the inputs of the snapshot did not change.
+     *
+     * @param file the snapshot file
+     * @return the snapshot or {@code null} if the snapshot does not exist, cannot be read or is outdated
+     */
+    static ConfigSnapshot read(final Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            final ConfigSnapshot snapshot = new Reader(buffer).read();
+            if (snapshot == null) {
+                ConfigLogging.log.outdatedSnapshot(file.toString());
+                return null;
+            }
+
+            for (Map.Entry<String, byte[]> input : snapshot.inputs.entrySet()) {
+                final byte[] digest;
+                try {
+                    digest = digest(new URL(input.getKey()));
+                } catch (IOException e) {
+                    // the resource is gone or cannot be read anymore
+                    ConfigLogging.log.outdatedSnapshot(file.toString());
+                    return null;
+                }
+                if (!Arrays.equals(input.getValue(), digest)) {
+                    ConfigLogging.log.outdatedSnapshot(file.toString());
+                    return null;
+                }
+            }
+            return snapshot;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            ConfigLogging.log.failedToReadSnapshot(e, file.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Runs the discovery of sources, recording the resources read by the sources in the {@link Recorder}.
+     *
+     * @param recorder the recorder, or {@code null} to not record the discovery
+     * @param discovery the discovery of sources
+     * @return the result of the discovery
+     */
+    static <T> T record(final Recorder recorder, final Supplier<T> discovery) {
+        if (recorder == null) {
+            return discovery.get();
+        }
+
+        final Recorder previous = RECORDER.get();
+        RECORDER.set(recorder);
+        try {
+            return discovery.get();
+        } finally {
+            if (previous == null) {
+                RECORDER.remove();
+            } else {
+                RECORDER.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Records the resource a source was read from, if the sources are being discovered to write a snapshot.
+     *
+     * @param url the resource
+     * @param source the source read from the resource
+     */
+    static void recordInput(final URL url, final ConfigSource source) {
+        final Recorder recorder = RECORDER.get();
+        if (recorder != null) {
+            recorder.inputs.put(source, url);
+        }
+    }
+
+    private static byte[] digest(final URL url) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        try (InputStream in = url.openStream()) {
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Records the discovery of sources: the resources read by the sources, the sources created by the
+     * {@link ConfigSourceFactory} and the values looked up by the factories.
+     */
+    static final class Recorder {
+        private final Map<ConfigSource, URL> inputs = new IdentityHashMap<>();
+        private final List<ConfigSource> factorySources = new ArrayList<>();
+        private final Map<String, String> lookups = new LinkedHashMap<>();
+        private boolean iteratedNames;
+
+        /**
+         * Wraps the {@link ConfigurableConfigSource} of the discovered sources to record the factories.
+         *
+         * @param sources the discovered sources
+         * @return the discovered sources, with the {@link ConfigurableConfigSource} wrapped
+         */
+        List<ConfigSource> wrap(final List<ConfigSource> sources) {
+            final List<ConfigSource> wrapped = new ArrayList<>(sources.size());
+            for (ConfigSource source : sources) {
+                if (source instanceof ConfigurableConfigSource) {
+                    wrapped.add(new RecordingConfigurableConfigSource((ConfigurableConfigSource) source, this));
+                } else {
+                    wrapped.add(source);
+                }
+            }
+            return wrapped;
+        }
+
+        /**
+         * Replaces the wrapped {@link ConfigurableConfigSource} with the original sources.
+         *
+         * @param sources the sources with wrapped {@link ConfigurableConfigSource}
+         * @return the sources without the recording wrappers
+         */
+        List<ConfigSource> unwrap(final List<ConfigSource> sources) {
+            final List<ConfigSource> unwrapped = new ArrayList<>(sources.size());
+            for (ConfigSource source : sources) {
+                if (source instanceof RecordingConfigurableConfigSource) {
+                    unwrapped.add(((RecordingConfigurableConfigSource) source).delegate);
+                } else {
+                    unwrapped.add(source);
+                }
+            }
+            return unwrapped;
+        }
+
+        /**
+         * Writes the snapshot with the recorded discovery. The snapshot is not written if any of the discovered sources
+         * was not read from a resource, or if a factory iterated the names of the configuration, because the snapshot
+         * cannot tell if these changed.
+         *
+         * @param file the snapshot file
+         * @param discovered the discovered sources
+         * @param profiles the active profiles
+         */
+        void write(final Path file, final List<ConfigSource> discovered, final List<String> profiles) {
+            final List<ConfigSource> sources = new ArrayList<>();
+            for (ConfigSource source : discovered) {
+                if (!(source instanceof ConfigurableConfigSource)) {
+                    sources.add(source);
+                }
+            }
+            sources.addAll(factorySources);
+
+            if (iteratedNames) {
+                ConfigLogging.log.snapshotNamesNotSupported(file.toString());
+                return;
+            }
+            final Map<String, byte[]> digests = new LinkedHashMap<>();
+            for (ConfigSource source : sources) {
+                final URL url = inputs.get(source);
+                if (url == null) {
+                    ConfigLogging.log.snapshotSourceNotSupported(file.toString(), source.getName());
+                    return;
+                }
+                if (!digests.containsKey(url.toString())) {
+                    try {
+                        digests.put(url.toString(), digest(url));
+                    } catch (IOException e) {
+                        ConfigLogging.log.failedToWriteSnapshot(e, file.toString());
+                        return;
+                    }
+                }
+            }
+
+            try {
+                final Path parent = file.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                final Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+                try {
+                    try (OutputStream out = Files.newOutputStream(temp)) {
+                        new Writer(out).write(profiles, lookups, digests, sources);
+                    }
+                    try {
+                        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (AtomicMoveNotSupportedException e) {
+                        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            } catch (IOException | RuntimeException e) {
+                ConfigLogging.log.failedToWriteSnapshot(e, file.toString());
+            }
+        }
+    }
+
+    /**
+     * Records the sources created by a discovered {@link ConfigSourceFactory}, and the values the factory looks up.
+     */
+    private static final class RecordingConfigurableConfigSource extends ConfigurableConfigSource {
+        private final ConfigurableConfigSource delegate;
+        private final Recorder recorder;
+
+        RecordingConfigurableConfigSource(final ConfigurableConfigSource delegate, final Recorder recorder) {
+            super(delegate.getFactory());
+            this.delegate = delegate;
+            this.recorder = recorder;
+        }
+
+        @Override
+        List<ConfigSource> getConfigSources(final ConfigSourceContext context) {
+            final List<ConfigSource> sources = record(recorder, () -> delegate.getConfigSources(new ConfigSourceContext() {
+                @Override
+                public ConfigValue getValue(final String name) {
+                    final ConfigValue value = context.getValue(name);
+                    recorder.lookups.put(name, value != null ? value.getValue() : null);
+                    return value;
+                }
+
+                @Override
+                public List<String> getProfiles() {
+                    return context.getProfiles();
+                }
+
+                @Override
+                public Iterator<String> iterateNames() {
+                    recorder.iteratedNames = true;
+                    return context.iterateNames();
+                }
+            }));
+            recorder.factorySources.addAll(sources);
+            return sources;
+        }
+    }
+
+    /**
+     * A source read from the snapshot.
+     */
+    static final class SnapshotConfigSource extends MapBackedConfigSource {
+        private static final long serialVersionUID = -6339545356236442934L;
+
+        SnapshotConfigSource(final String name, final Map<String, String> propertyMap, final int defaultOrdinal) {
+            super(name, propertyMap, defaultOrdinal);
+        }
+    }
+
+    /**
+     * Writes the snapshot format. All strings are written as a length and the UTF-8 bytes, with a {@code -1} length
+     * for {@code null}.
+     */
+    private static final class Writer {
+        private final DataOutputStream out;
+
+        Writer(final OutputStream out) {
+            this.out = new DataOutputStream(new BufferedOutputStream(out, 65536));
+        }
+
+        void write(final List<String> profiles, final Map<String, String> lookups, final Map<String, byte[]> inputs,
+                final List<ConfigSource> sources) throws IOException {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+
+            out.writeInt(profiles.size());
+            for (String profile : profiles) {
+                writeString(profile);
+            }
+
+            out.writeInt(lookups.size());
+            for (Map.Entry<String, String> lookup : lookups.entrySet()) {
+                writeString(lookup.getKey());
+                writeString(lookup.getValue());
+            }
+
+            out.writeInt(inputs.size());
+            for (Map.Entry<String, byte[]> input : inputs.entrySet()) {
+                writeString(input.getKey());
+                out.writeInt(input.getValue().length);
+                out.write(input.getValue());
+            }
+
+            out.writeInt(sources.size());
+            for (ConfigSource source : sources) {
+                writeString(source.getName());
+                out.writeInt(source.getOrdinal());
+                final Map<String, String> properties = source.getProperties();
+                out.writeInt(properties.size());
+                for (Map.Entry<String, String> property : properties.entrySet()) {
+                    writeString(property.getKey());
+                    writeString(property.getValue());
+                }
+            }
+            out.flush();
+        }
+
+        private void writeString(final String value) throws IOException {
+            if (value == null) {
+                out.writeInt(-1);
+                return;
+            }
+            final byte[] bytes = value.getBytes(UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Reads the snapshot format from a {@link ByteBuffer}.
+     */
+    private static final class Reader {
+        private final ByteBuffer buffer;
+        private byte[] bytes = new byte[256];
+
+        Reader(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Reads the snapshot.
+         *
+         * @return the snapshot, or {@code null} if the snapshot was written with a different format
+         * @throws IOException if the snapshot is not valid
+         */
+        ConfigSnapshot read() throws IOException {
+            try {
+                if (buffer.getInt() != MAGIC) {
+                    throw new IOException("Not a configuration snapshot");
+                }
+                if (buffer.getInt() != FORMAT_VERSION) {
+                    return null;
+                }
+
+                final int profilesSize = buffer.getInt();
+                final List<String> profiles = new ArrayList<>(profilesSize);
+                for (int i = 0; i < profilesSize; i++) {
+                    profiles.add(readString());
+                }
+
+                final int lookupsSize = buffer.getInt();
+                final Map<String, String> lookups = new LinkedHashMap<>();
+                for (int i = 0; i < lookupsSize; i++) {
+                    lookups.put(readString(), readString());
+                }
+
+                final int inputsSize = buffer.getInt();
+                final Map<String, byte[]> inputs = new LinkedHashMap<>();
+                for (int i = 0; i < inputsSize; i++) {
+                    final String url = readString();
+                    final byte[] digest = new byte[buffer.getInt()];
+                    buffer.get(digest);
+                    inputs.put(url, digest);
+                }
+
+                final int sourcesSize = buffer.getInt();
+                final List<ConfigSource> sources = new ArrayList<>(sourcesSize);
+                for (int i = 0; i < sourcesSize; i++) {
+                    final String name = readString();
+                    final int ordinal = buffer.getInt();
+                    final int propertiesSize = buffer.getInt();
+                    final Map<String, String> properties = new HashMap<>((int) (propertiesSize / 0.75f) + 1);
+                    for (int j = 0; j < propertiesSize; j++) {
+                        properties.put(readString(), readString());
+                    }
+                    sources.add(new SnapshotConfigSource(name, Collections.unmodifiableMap(properties), ordinal));
+                }
+
+                return new ConfigSnapshot(Collections.unmodifiableList(profiles), lookups, inputs, sources);
+            } catch (BufferUnderflowException | NegativeArraySizeException e) {
+                throw new IOException("Truncated configuration snapshot", e);
+            }
+        }
+
+        private String readString() {
+            final int length = buffer.getInt();
+            if (length < 0) {
+                return null;
+            }
+            if (bytes.length < length) {
+                bytes = new byte[Math.max(length, bytes.length * 2)];
+            }
+            buffer.get(bytes, 0, length);
+            return new String(bytes, 0, length, UTF_8);
+        }
+    }
+}
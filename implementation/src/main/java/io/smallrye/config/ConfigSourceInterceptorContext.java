@@ -2,6 +2,7 @@ package io.smallrye.config;
 
 import java.io.Serializable;
 import java.util.Iterator;
+import java.util.function.Supplier;
 
 import io.smallrye.common.annotation.Experimental;
 
@@ -20,6 +21,34 @@ public interface ConfigSourceInterceptorContext extends Serializable {
      */
     ConfigValue proceed(String name);
 
+    /**
+     * Proceeds to the next interceptor in the chain, with different {@link LookupOptions}.
+     * <p>
+     * The default implementation applies the options with {@link SecretKeys} and {@link Expressions}. Implementations
+     * should override it to pass the options through the chain instead.
+     *
+     * @param name the configuration name to lookup. Can be the original key.
+     * @param options the options of the lookup.
+     * @return a {@link ConfigValue} with information about the name, value, config source and ordinal, or {@code null}
+     *         if the value isn't present.
+     */
+    default ConfigValue proceed(String name, LookupOptions options) {
+        final Supplier<ConfigValue> lookup = options.isExpansionDisabled()
+                ? () -> Expressions.withoutExpansion(() -> proceed(name))
+                : () -> proceed(name);
+        return options.isSecretsUnlocked() ? SecretKeys.doUnlocked(lookup) : lookup.get();
+    }
+
+    /**
+     * The options of the lookup in progress. Interceptors check the options before the state of {@link SecretKeys}
+     * and {@link Expressions}.
+     *
+     * @return the {@link LookupOptions} of the lookup.
+     */
+    default LookupOptions getLookupOptions() {
+        return LookupOptions.DEFAULT;
+    }
+
     /**
      * Proceeds to the next interceptor in the chain.
      *
@@ -59,17 +59,7 @@ public final class Converters {
     static final Converter<String> STRING_CONVERTER = BuiltInConverter.of(0, newEmptyValueConverter(value -> value));
 
     static final Converter<Boolean> BOOLEAN_CONVERTER = BuiltInConverter.of(1, newTrimmingConverter(newEmptyValueConverter(
-            value -> Boolean.valueOf(
-                    "TRUE".equalsIgnoreCase(value)
-                            || "1".equalsIgnoreCase(value)
-                            || "YES".equalsIgnoreCase(value)
-                            || "Y".equalsIgnoreCase(value)
-                            || "ON".equalsIgnoreCase(value)
-                            || "JA".equalsIgnoreCase(value)
-                            || "J".equalsIgnoreCase(value)
-                            || "SI".equalsIgnoreCase(value)
-                            || "SIM".equalsIgnoreCase(value)
-                            || "OUI".equalsIgnoreCase(value)))));
+            value -> Boolean.valueOf(parseBoolean(value)))));
 
     static final Converter<Double> DOUBLE_CONVERTER = BuiltInConverter.of(2,
             newTrimmingConverter(newEmptyValueConverter(value -> {
@@ -228,6 +218,19 @@ public final class Converters {
         PRIMITIVE_TYPES = primitiveTypes;
     }
 
+    static boolean parseBoolean(String value) {
+        return "TRUE".equalsIgnoreCase(value)
+                || "1".equalsIgnoreCase(value)
+                || "YES".equalsIgnoreCase(value)
+                || "Y".equalsIgnoreCase(value)
+                || "ON".equalsIgnoreCase(value)
+                || "JA".equalsIgnoreCase(value)
+                || "J".equalsIgnoreCase(value)
+                || "SI".equalsIgnoreCase(value)
+                || "SIM".equalsIgnoreCase(value)
+                || "OUI".equalsIgnoreCase(value);
+    }
+
     static Class<?> wrapPrimitiveType(Class<?> primitiveType) {
         assert primitiveType.isPrimitive();
         return PRIMITIVE_TYPES.get(primitiveType);
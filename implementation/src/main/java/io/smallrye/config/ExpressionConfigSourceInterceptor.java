@@ -43,12 +43,17 @@ public class ExpressionConfigSourceInterceptor implements ConfigSourceIntercepto
 
         final ConfigValue configValue = context.proceed(name);
 
-        if (!Expressions.isEnabled() || !enabled) {
+        if (!enabled || configValue == null) {
             return configValue;
         }
 
-        if (configValue == null) {
-            return null;
+        // Without a dollar there is nothing to expand, so the expansion state is not checked
+        if (configValue.getValue() == null || configValue.getValue().indexOf('$') == -1) {
+            return configValue;
+        }
+
+        if (context.getLookupOptions().isExpansionDisabled() || !Expressions.isEnabled()) {
+            return configValue;
         }
 
         final Expression expression = Expression.compile(escapeDollarIfExists(configValue.getValue()), LENIENT_SYNTAX, NO_TRIM,
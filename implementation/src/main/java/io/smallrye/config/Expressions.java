@@ -1,16 +1,26 @@
 package io.smallrye.config;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 @SuppressWarnings("squid:S5164")
 public final class Expressions {
     private static final ThreadLocal<Boolean> ENABLE = new ThreadLocal<>();
+    /**
+     * The number of threads running without expansion. While there are none, the expansion state is not read from
+     * {@link #ENABLE}, so threads that never disable the expansion, like most virtual threads, never get a
+     * {@link ThreadLocal} entry.
+     */
+    private static final AtomicInteger DISABLED = new AtomicInteger();
 
     private Expressions() {
         throw new UnsupportedOperationException();
     }
 
     public static boolean isEnabled() {
+        if (DISABLED.get() == 0) {
+            return true;
+        }
         Boolean result = ENABLE.get();
         return result == null ? true : result;
     }
@@ -25,9 +35,11 @@ public final class Expressions {
     public static <T> T withoutExpansion(Supplier<T> supplier) {
         if (isEnabled()) {
             ENABLE.set(false);
+            DISABLED.incrementAndGet();
             try {
                 return supplier.get();
             } finally {
+                DISABLED.decrementAndGet();
                 ENABLE.remove();
             }
         } else {
@@ -17,9 +17,11 @@ package io.smallrye.config;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 
@@ -31,6 +33,7 @@ import org.eclipse.microprofile.config.spi.Converter;
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2017 Red Hat inc.
  */
 class ImplicitConverters {
+    private static final MethodType CONVERTER_TYPE = MethodType.methodType(Object.class, String.class);
 
     private ImplicitConverters() {
     }
@@ -105,11 +108,17 @@ class ImplicitConverters {
 
         private final Class<? extends T> clazz;
         private final Method method;
+        private final MethodHandle handle;
 
         StaticMethodConverter(Class<? extends T> clazz, Method method) {
             assert clazz == method.getReturnType();
             this.clazz = clazz;
             this.method = method;
+            try {
+                this.handle = MethodHandles.lookup().unreflect(method).asType(CONVERTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw ConfigMessages.msg.staticMethodConverterFailure(e);
+            }
         }
 
         @Override
@@ -118,9 +127,11 @@ class ImplicitConverters {
                 return null;
             }
             try {
-                return clazz.cast(method.invoke(null, value));
-            } catch (IllegalAccessException | InvocationTargetException e) {
-                throw ConfigMessages.msg.staticMethodConverterFailure(e);
+                return clazz.cast((Object) handle.invokeExact(value));
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw ConfigMessages.msg.staticMethodConverterFailure(t);
             }
         }
 
@@ -154,9 +165,15 @@ class ImplicitConverters {
         private static final long serialVersionUID = 3350265927359848883L;
 
         private final Constructor<? extends T> ctor;
+        private final MethodHandle handle;
 
         public ConstructorConverter(final Constructor<? extends T> ctor) {
             this.ctor = ctor;
+            try {
+                this.handle = MethodHandles.lookup().unreflectConstructor(ctor).asType(CONVERTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw ConfigMessages.msg.constructorConverterFailure(e);
+            }
         }
 
         @Override
@@ -165,9 +182,11 @@ class ImplicitConverters {
                 return null;
             }
             try {
-                return ctor.newInstance(value);
-            } catch (IllegalAccessException | InvocationTargetException | InstantiationException e) {
-                throw ConfigMessages.msg.constructorConverterFailure(e);
+                return ctor.getDeclaringClass().cast((Object) handle.invokeExact(value));
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw ConfigMessages.msg.constructorConverterFailure(t);
             }
         }
 
@@ -12,7 +12,7 @@ public class LoggingConfigSourceInterceptor implements ConfigSourceInterceptor {
     public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
         try {
             // Unlocked keys will run here.
-            ConfigValue configValue = doLocked(() -> context.proceed(name));
+            ConfigValue configValue = doLocked(() -> context.proceed(name, context.getLookupOptions().lockSecrets()));
             if (configValue != null)
                 ConfigLogging.log.lookup(configValue.getName(), configValue.getLocation(), configValue.getValue());
             else
@@ -0,0 +1,96 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * The options of a configuration lookup, carried by the {@link ConfigSourceInterceptorContext} through the
+ * interceptor chain.
+ * <p>
+ * The options are an alternative to {@link SecretKeys#doUnlocked(java.util.function.Supplier)} and
+ * {@link Expressions#withoutExpansion(java.util.function.Supplier)}, which have to set and clear a {@link ThreadLocal}
+ * around each lookup. The options can only relax a lookup: with the {@link #DEFAULT} options, the state set by
+ * {@link SecretKeys} and {@link Expressions} still applies.
+ */
+@Experimental("Options of a configuration lookup")
+public final class LookupOptions implements Serializable {
+    private static final long serialVersionUID = -6014474373950244390L;
+
+    private static final int SECRETS_UNLOCKED = 1;
+    private static final int EXPANSION_DISABLED = 2;
+
+    private static final LookupOptions[] OPTIONS = {
+            new LookupOptions(0),
+            new LookupOptions(SECRETS_UNLOCKED),
+            new LookupOptions(EXPANSION_DISABLED),
+            new LookupOptions(SECRETS_UNLOCKED | EXPANSION_DISABLED)
+    };
+
+    /**
+     * The options of a regular lookup.
+     */
+    public static final LookupOptions DEFAULT = OPTIONS[0];
+
+    private final int flags;
+
+    private LookupOptions(final int flags) {
+        this.flags = flags;
+    }
+
+    /**
+     * @return {@code true} if the lookup is allowed to retrieve the value of secret keys.
+     */
+    public boolean isSecretsUnlocked() {
+        return (flags & SECRETS_UNLOCKED) != 0;
+    }
+
+    /**
+     * @return {@code true} if the lookup returns the values without expanding their expressions.
+     */
+    public boolean isExpansionDisabled() {
+        return (flags & EXPANSION_DISABLED) != 0;
+    }
+
+    /**
+     * @return these options, allowing the retrieval of secret keys.
+     */
+    public LookupOptions unlockSecrets() {
+        return OPTIONS[flags | SECRETS_UNLOCKED];
+    }
+
+    /**
+     * @return these options, without allowing the retrieval of secret keys.
+     */
+    public LookupOptions lockSecrets() {
+        return OPTIONS[flags & ~SECRETS_UNLOCKED];
+    }
+
+    /**
+     * @return these options, without expanding the expressions of the values.
+     */
+    public LookupOptions disableExpansion() {
+        return OPTIONS[flags | EXPANSION_DISABLED];
+    }
+
+    int index() {
+        return flags;
+    }
+
+    static int size() {
+        return OPTIONS.length;
+    }
+
+    static LookupOptions of(final int index) {
+        return OPTIONS[index];
+    }
+
+    private Object readResolve() {
+        return OPTIONS[flags];
+    }
+
+    @Override
+    public String toString() {
+        return "LookupOptions{secretsUnlocked=" + isSecretsUnlocked() + ", expansionDisabled=" + isExpansionDisabled() + "}";
+    }
+}
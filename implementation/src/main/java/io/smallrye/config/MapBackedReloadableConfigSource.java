@@ -0,0 +1,116 @@
+package io.smallrye.config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.config.common.AbstractConfigSource;
+
+/**
+ * A {@link ReloadableConfigSource} backed by an immutable {@link Map}. New contents are published with
+ * {@link #publish(Map)}, which swaps the whole map at once. Lookups read a single volatile reference and do not
+ * require any locking.
+ */
+@Experimental("Config sources which contents may change")
+public class MapBackedReloadableConfigSource extends AbstractConfigSource implements ReloadableConfigSource {
+    private static final long serialVersionUID = -2405718939347328934L;
+
+    private final Set<ConfigChangeListener> listeners = new CopyOnWriteArraySet<>();
+
+    private volatile Map<String, String> properties;
+
+    /**
+     * Construct a new instance, with the default ordinal of {@code 100}.
+     *
+     * @param name the config source name
+     * @param properties the initial properties of the source
+     */
+    public MapBackedReloadableConfigSource(final String name, final Map<String, String> properties) {
+        this(name, properties, ConfigSource.DEFAULT_ORDINAL);
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param name the config source name
+     * @param properties the initial properties of the source
+     * @param ordinal the ordinal of the source
+     */
+    public MapBackedReloadableConfigSource(final String name, final Map<String, String> properties, final int ordinal) {
+        super(name, ordinal);
+        this.properties = Collections.unmodifiableMap(new HashMap<>(properties));
+    }
+
+    @Override
+    public Map<String, String> getProperties() {
+        return properties;
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return properties.keySet();
+    }
+
+    @Override
+    public String getValue(final String propertyName) {
+        return properties.get(propertyName);
+    }
+
+    /**
+     * Replace the contents of this source with a copy of the given properties, and notify the registered listeners
+     * with the names of the properties that were added, removed or changed. Listeners are not notified if the
+     * contents did not change.
+     * <p>
+     *
+     * A listener may reject the new contents by throwing an exception, like a {@link SmallRyeConfig} which config
+     * mappings fail to map the new values. The previous contents are then restored, and the exception is rethrown.
+     *
+     * @param properties the new properties of the source
+     */
+    public synchronized void publish(final Map<String, String> properties) {
+        final Map<String, String> previous = this.properties;
+        final Map<String, String> current = Collections.unmodifiableMap(new HashMap<>(properties));
+
+        final Set<String> changed = new HashSet<>();
+        for (Map.Entry<String, String> entry : current.entrySet()) {
+            if (!Objects.equals(entry.getValue(), previous.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (String name : previous.keySet()) {
+            if (!current.containsKey(name)) {
+                changed.add(name);
+            }
+        }
+
+        this.properties = current;
+        if (!changed.isEmpty()) {
+            final Set<String> names = Collections.unmodifiableSet(changed);
+            try {
+                for (ConfigChangeListener listener : listeners) {
+                    listener.onChange(names);
+                }
+            } catch (RuntimeException e) {
+                this.properties = previous;
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void addChangeListener(final ConfigChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(final ConfigChangeListener listener) {
+        listeners.remove(listener);
+    }
+}
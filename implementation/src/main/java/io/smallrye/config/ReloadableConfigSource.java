@@ -0,0 +1,34 @@
+package io.smallrye.config;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A {@link ConfigSource} which contents may change after the {@link SmallRyeConfig} is built. A
+ * {@link SmallRyeConfig} registers a {@link ConfigChangeListener} with each {@link ReloadableConfigSource} it contains,
+ * so that it can update its own state and notify its listeners when the source publishes new contents.
+ * <p>
+ *
+ * Implementations must publish new contents atomically: a lookup either sees the previous contents, or the new
+ * contents, but never a mix of both.
+ *
+ * @see MapBackedReloadableConfigSource
+ */
+@Experimental("Config sources which contents may change")
+public interface ReloadableConfigSource extends ConfigSource {
+    /**
+     * Register a listener, to be notified every time this source publishes new contents. Registering the same
+     * listener more than once has no effect.
+     *
+     * @param listener the listener to register
+     */
+    void addChangeListener(ConfigChangeListener listener);
+
+    /**
+     * Unregister a listener previously registered with {@link #addChangeListener(ConfigChangeListener)}.
+     *
+     * @param listener the listener to unregister
+     */
+    void removeChangeListener(ConfigChangeListener listener);
+}
@@ -1,16 +1,26 @@
 package io.smallrye.config;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 @SuppressWarnings("squid:S5164")
 public final class SecretKeys {
     private static final ThreadLocal<Boolean> LOCKED = new ThreadLocal<>();
+    /**
+     * The number of threads running with the keys unlocked. While there are none, the lock state is not read from
+     * {@link #LOCKED}, so threads that never unlock the keys, like most virtual threads, never get a
+     * {@link ThreadLocal} entry.
+     */
+    private static final AtomicInteger UNLOCKED = new AtomicInteger();
 
     private SecretKeys() {
         throw new UnsupportedOperationException();
     }
 
     public static boolean isLocked() {
+        if (UNLOCKED.get() == 0) {
+            return true;
+        }
         Boolean result = LOCKED.get();
         return result == null ? true : result;
     }
@@ -25,9 +35,11 @@ public final class SecretKeys {
     public static <T> T doUnlocked(Supplier<T> supplier) {
         if (isLocked()) {
             LOCKED.set(false);
+            UNLOCKED.incrementAndGet();
             try {
                 return supplier.get();
             } finally {
+                UNLOCKED.decrementAndGet();
                 LOCKED.remove();
             }
         } else {
@@ -16,7 +16,7 @@ public class SecretKeysConfigSourceInterceptor implements ConfigSourceIntercepto
 
     @Override
     public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
-        if (SecretKeys.isLocked() && isSecret(name)) {
+        if (isSecret(name) && !context.getLookupOptions().isSecretsUnlocked() && SecretKeys.isLocked()) {
             throw ConfigMessages.msg.notAllowed(name);
         }
         return context.proceed(name);
@@ -20,7 +20,10 @@ import static io.smallrye.config.SmallRyeConfigSourceInterceptor.configSourceInt
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.lang.reflect.Array;
 import java.lang.reflect.Type;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -29,13 +32,16 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 
@@ -58,16 +64,88 @@ public class SmallRyeConfig implements Config, Serializable {
 
     private static final long serialVersionUID = 8138651532357898263L;
 
-    private final ConfigSources configSources;
+    /**
+     * The current immutable snapshot of the sources and the interceptor chain. Lookups read the snapshot once, and a
+     * reload or a change in a {@link ReloadableConfigSource} replaces it, while holding the {@link #reloadLock}.
+     */
+    private volatile ConfigSources configSources;
+    private final List<ConfigSource> sourcesToBuild;
+    private final List<InterceptorWithPriority> interceptorsToBuild;
+    private final Object reloadLock = new Object();
+    private final ConfigChangeListener sourceChangeListener = this::sourceChanged;
+    private final Set<ConfigChangeListener> changeListeners = new CopyOnWriteArraySet<>();
+    /**
+     * The changes waiting to be delivered to the {@link #changeListeners}, guarded by the {@link #reloadLock}. Changes
+     * are delivered outside the lock, in order, by a single thread at a time.
+     */
+    private final Queue<Set<String>> pendingChanges = new ArrayDeque<>();
+    private boolean deliveringChanges;
+
     private final Map<Type, Converter<?>> converters;
     private final Map<Type, Converter<Optional<?>>> optionalConverters = new ConcurrentHashMap<>();
 
+    private final Converter<Integer> integerConverter;
+    private final Converter<Long> longConverter;
+    private final Converter<Double> doubleConverter;
+    private final Converter<Boolean> booleanConverter;
+
     private final ConfigMappings mappings;
 
     SmallRyeConfig(SmallRyeConfigBuilder builder, ConfigMappings mappings) {
-        this.configSources = new ConfigSources(buildConfigSources(builder), buildInterceptors(builder));
+        this.interceptorsToBuild = buildInterceptors(builder);
+        if (builder.getSnapshot() == null) {
+            this.sourcesToBuild = buildConfigSources(builder);
+            this.configSources = new ConfigSources(sourcesToBuild, interceptorsToBuild, 0);
+        } else {
+            final Path snapshotFile = builder.getSnapshot();
+            final ConfigSnapshot snapshot = ConfigSnapshot.read(snapshotFile);
+            List<ConfigSource> sourcesToBuild = null;
+            ConfigSources configSources = null;
+            if (snapshot != null) {
+                sourcesToBuild = buildConfigSources(builder, snapshot.getConfigSources());
+                configSources = new ConfigSources(sourcesToBuild, interceptorsToBuild, 0);
+                if (!snapshot.matches(configSources.getProfiles(), configSources.getInterceptorChain())) {
+                    ConfigLogging.log.outdatedSnapshot(snapshotFile.toString());
+                    configSources = null;
+                }
+            }
+
+            if (configSources == null) {
+                final ConfigSnapshot.Recorder recorder = new ConfigSnapshot.Recorder();
+                final List<ConfigSource> discovered = ConfigSnapshot.record(recorder, () -> discoverConfigSources(builder));
+                final List<ConfigSource> recordedSources = buildConfigSources(builder, recorder.wrap(discovered));
+                configSources = new ConfigSources(recordedSources, interceptorsToBuild, 0);
+                recorder.write(snapshotFile, discovered, configSources.getProfiles());
+                sourcesToBuild = recorder.unwrap(recordedSources);
+            }
+            this.sourcesToBuild = sourcesToBuild;
+            this.configSources = configSources;
+        }
         this.converters = buildConverters(builder);
+        this.integerConverter = requireConverter(Integer.class);
+        this.longConverter = requireConverter(Long.class);
+        this.doubleConverter = requireConverter(Double.class);
+        this.booleanConverter = requireConverter(Boolean.class);
         this.mappings = mappings;
+        registerSourceChangeListener(configSources);
+    }
+
+    /**
+     * A view of a config with other sources, to map the configuration with the sources before they are published.
+     *
+     * @param config the config
+     * @param configSources the sources of the view
+     */
+    private SmallRyeConfig(final SmallRyeConfig config, final ConfigSources configSources) {
+        this.configSources = configSources;
+        this.sourcesToBuild = config.sourcesToBuild;
+        this.interceptorsToBuild = config.interceptorsToBuild;
+        this.converters = config.converters;
+        this.integerConverter = config.integerConverter;
+        this.longConverter = config.longConverter;
+        this.doubleConverter = config.doubleConverter;
+        this.booleanConverter = config.booleanConverter;
+        this.mappings = config.mappings;
     }
 
     private List<ConfigSource> buildConfigSources(final SmallRyeConfigBuilder builder) {
@@ -83,6 +161,41 @@ public class SmallRyeConfig implements Config, Serializable {
         return sourcesToBuild;
     }
 
+    /**
+     * Builds the sources with a snapshot, replacing the discovered sources and the default sources, except for the
+     * environment variables and the system properties, which are always read.
+     */
+    private static List<ConfigSource> buildConfigSources(final SmallRyeConfigBuilder builder,
+            final List<ConfigSource> discovered) {
+        final List<ConfigSource> sourcesToBuild = new ArrayList<>(builder.getSources());
+        sourcesToBuild.addAll(discovered);
+        if (builder.isAddDefaultSources()) {
+            sourcesToBuild.add(new EnvConfigSource());
+            sourcesToBuild.add(new SysPropConfigSource());
+        }
+        sourcesToBuild.add(new DefaultValuesConfigSource(builder.getDefaultValues()));
+
+        return sourcesToBuild;
+    }
+
+    /**
+     * The discovered sources and the default sources that are part of a snapshot.
+     */
+    private static List<ConfigSource> discoverConfigSources(final SmallRyeConfigBuilder builder) {
+        final List<ConfigSource> discovered = new ArrayList<>();
+        if (builder.isAddDiscoveredSources()) {
+            discovered.addAll(builder.discoverSources());
+        }
+        if (builder.isAddDefaultSources()) {
+            for (ConfigSource source : builder.getDefaultSources()) {
+                if (!(source instanceof EnvConfigSource) && !(source instanceof SysPropConfigSource)) {
+                    discovered.add(source);
+                }
+            }
+        }
+        return discovered;
+    }
+
     private List<InterceptorWithPriority> buildInterceptors(final SmallRyeConfigBuilder builder) {
         final List<InterceptorWithPriority> interceptors = new ArrayList<>(builder.getInterceptors());
         if (builder.isAddDiscoveredInterceptors()) {
@@ -114,6 +227,20 @@ public class SmallRyeConfig implements Config, Serializable {
         }
         converters.put(ConfigValue.class, ConfigValueConverter.CONFIG_VALUE_CONVERTER);
 
+        // Precompute primitive and array types, so their lookup does not require to wrap or create a converter
+        for (Map.Entry<Class<?>, Class<?>> primitiveType : Converters.PRIMITIVE_TYPES.entrySet()) {
+            final Converter<?> converter = converters.get(primitiveType.getValue());
+            if (converter != null) {
+                converters.putIfAbsent(primitiveType.getKey(), converter);
+            }
+        }
+        for (Map.Entry<Type, Converter<?>> entry : new ArrayList<>(converters.entrySet())) {
+            if (entry.getKey() instanceof Class<?> && entry.getKey() != ConfigValue.class) {
+                final Class<?> arrayType = Array.newInstance((Class<?>) entry.getKey(), 0).getClass();
+                converters.putIfAbsent(arrayType, Converters.newArrayConverter(entry.getValue(), arrayType));
+            }
+        }
+
         return converters;
     }
 
@@ -136,19 +263,48 @@ public class SmallRyeConfig implements Config, Serializable {
 
     public <T, C extends Collection<T>> C getIndexedValues(String name, Converter<T> converter,
             IntFunction<C> collectionFactory) {
-        List<String> indexedProperties = getIndexedProperties(name);
-        if (indexedProperties.isEmpty()) {
+        List<ConfigValue> indexedValues = getIndexedConfigValues(name);
+        if (indexedValues.isEmpty()) {
             throw new NoSuchElementException(ConfigMessages.msg.propertyNotFound(name));
         }
 
-        final C collection = collectionFactory.apply(indexedProperties.size());
-        for (String indexedProperty : indexedProperties) {
-            collection.add(getValue(indexedProperty, converter));
+        final C collection = collectionFactory.apply(indexedValues.size());
+        for (ConfigValue indexedValue : indexedValues) {
+            collection.add(convertValue(indexedValue.getName(), indexedValue, converter));
         }
 
         return collection;
     }
 
+    /**
+     * Get the {@link ConfigValue} of each indexed property of a property, ordered by index. The indexes are collected
+     * with a single iteration of the property names, and each indexed property is looked up once. The name of each
+     * {@link ConfigValue} is the indexed property name (like {@code name[0]}), even if the value was found with
+     * another name.
+     *
+     * @param name the property name, without the index
+     * @return the {@link ConfigValue} of each indexed property, or an empty List if the property has no indexed
+     *         properties
+     */
+    @Experimental("Retrieve the indexed properties of a property in bulk")
+    public List<ConfigValue> getIndexedConfigValues(final String name) {
+        final List<Integer> indexes = getIndexedPropertiesIndexes(name);
+        if (indexes.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final List<ConfigValue> indexedValues = new ArrayList<>(indexes.size());
+        final StringBuilder indexedProperty = new StringBuilder(name.length() + 4).append(name).append('[');
+        final int length = indexedProperty.length();
+        for (Integer index : indexes) {
+            indexedProperty.setLength(length);
+            final String indexedName = indexedProperty.append(index).append(']').toString();
+            final ConfigValue indexedValue = getConfigValue(indexedName);
+            indexedValues.add(indexedName.equals(indexedValue.getName()) ? indexedValue : indexedValue.withName(indexedName));
+        }
+        return indexedValues;
+    }
+
     public List<String> getIndexedProperties(final String property) {
         List<Integer> indexes = getIndexedPropertiesIndexes(property);
         List<String> indexedProperties = new ArrayList<>();
@@ -161,7 +317,10 @@ public class SmallRyeConfig implements Config, Serializable {
 
     public List<Integer> getIndexedPropertiesIndexes(final String property) {
         Set<Integer> indexes = new HashSet<>();
-        for (String propertyName : this.getPropertyNames()) {
+        // iterate the names directly, getPropertyNames() would collect them first
+        final Iterator<String> namesIterator = configSources.getInterceptorChain().iterateNames();
+        while (namesIterator.hasNext()) {
+            final String propertyName = namesIterator.next();
             if (propertyName.startsWith(property) && propertyName.length() > property.length()) {
                 int index = property.length();
                 if (propertyName.charAt(index) == '[') {
@@ -192,6 +351,209 @@ public class SmallRyeConfig implements Config, Serializable {
         return getValue(name, requireConverter(aClass));
     }
 
+    /**
+     * Return the value of a configuration property as an {@code int}. When the built-in {@link Integer} converter is
+     * in use, the value is parsed directly, without going through a {@link Converter} or boxing the result.
+     *
+     * @param name the property name
+     * @return the resolved property value as an {@code int}
+     * @throws IllegalArgumentException if the property cannot be converted to an {@code int}
+     * @throws NoSuchElementException if the property is not defined or is defined as an empty string
+     */
+    @Experimental("Primitive specialized lookup")
+    public int getIntValue(String name) {
+        final String value = getRawValue(name);
+        if (value != null && integerConverter == Converters.INTEGER_CONVERTER) {
+            final String trimmed = value.trim();
+            if (!trimmed.isEmpty()) {
+                try {
+                    return Integer.parseInt(trimmed);
+                } catch (NumberFormatException ignored) {
+                    // reported by the converter
+                }
+            }
+        }
+        return convertValue(name, value, integerConverter);
+    }
+
+    /**
+     * Return the value of a configuration property as an {@code int}, or the {@code defaultValue} if the property is
+     * not defined or is defined as an empty string.
+     *
+     * @param name the property name
+     * @param defaultValue the value to return if the property is not defined
+     * @return the resolved property value as an {@code int}
+     * @throws IllegalArgumentException if the property cannot be converted to an {@code int}
+     */
+    @Experimental("Primitive specialized lookup")
+    public int getIntValue(String name, int defaultValue) {
+        final String value = getRawValue(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (integerConverter == Converters.INTEGER_CONVERTER) {
+            final String trimmed = value.trim();
+            if (trimmed.isEmpty()) {
+                return defaultValue;
+            }
+            try {
+                return Integer.parseInt(trimmed);
+            } catch (NumberFormatException ignored) {
+                // reported by the converter
+            }
+        }
+        return convertValueOrDefault(name, value, integerConverter, defaultValue);
+    }
+
+    /**
+     * Return the value of a configuration property as a {@code long}. When the built-in {@link Long} converter is
+     * in use, the value is parsed directly, without going through a {@link Converter} or boxing the result.
+     *
+     * @param name the property name
+     * @return the resolved property value as a {@code long}
+     * @throws IllegalArgumentException if the property cannot be converted to a {@code long}
+     * @throws NoSuchElementException if the property is not defined or is defined as an empty string
+     */
+    @Experimental("Primitive specialized lookup")
+    public long getLongValue(String name) {
+        final String value = getRawValue(name);
+        if (value != null && longConverter == Converters.LONG_CONVERTER) {
+            final String trimmed = value.trim();
+            if (!trimmed.isEmpty()) {
+                try {
+                    return Long.parseLong(trimmed);
+                } catch (NumberFormatException ignored) {
+                    // reported by the converter
+                }
+            }
+        }
+        return convertValue(name, value, longConverter);
+    }
+
+    /**
+     * Return the value of a configuration property as a {@code long}, or the {@code defaultValue} if the property is
+     * not defined or is defined as an empty string.
+     *
+     * @param name the property name
+     * @param defaultValue the value to return if the property is not defined
+     * @return the resolved property value as a {@code long}
+     * @throws IllegalArgumentException if the property cannot be converted to a {@code long}
+     */
+    @Experimental("Primitive specialized lookup")
+    public long getLongValue(String name, long defaultValue) {
+        final String value = getRawValue(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (longConverter == Converters.LONG_CONVERTER) {
+            final String trimmed = value.trim();
+            if (trimmed.isEmpty()) {
+                return defaultValue;
+            }
+            try {
+                return Long.parseLong(trimmed);
+            } catch (NumberFormatException ignored) {
+                // reported by the converter
+            }
+        }
+        return convertValueOrDefault(name, value, longConverter, defaultValue);
+    }
+
+    /**
+     * Return the value of a configuration property as a {@code double}. When the built-in {@link Double} converter is
+     * in use, the value is parsed directly, without going through a {@link Converter} or boxing the result.
+     *
+     * @param name the property name
+     * @return the resolved property value as a {@code double}
+     * @throws IllegalArgumentException if the property cannot be converted to a {@code double}
+     * @throws NoSuchElementException if the property is not defined or is defined as an empty string
+     */
+    @Experimental("Primitive specialized lookup")
+    public double getDoubleValue(String name) {
+        final String value = getRawValue(name);
+        if (value != null && doubleConverter == Converters.DOUBLE_CONVERTER) {
+            final String trimmed = value.trim();
+            if (!trimmed.isEmpty()) {
+                try {
+                    return Double.parseDouble(trimmed);
+                } catch (NumberFormatException ignored) {
+                    // reported by the converter
+                }
+            }
+        }
+        return convertValue(name, value, doubleConverter);
+    }
+
+    /**
+     * Return the value of a configuration property as a {@code double}, or the {@code defaultValue} if the property
+     * is not defined or is defined as an empty string.
+     *
+     * @param name the property name
+     * @param defaultValue the value to return if the property is not defined
+     * @return the resolved property value as a {@code double}
+     * @throws IllegalArgumentException if the property cannot be converted to a {@code double}
+     */
+    @Experimental("Primitive specialized lookup")
+    public double getDoubleValue(String name, double defaultValue) {
+        final String value = getRawValue(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (doubleConverter == Converters.DOUBLE_CONVERTER) {
+            final String trimmed = value.trim();
+            if (trimmed.isEmpty()) {
+                return defaultValue;
+            }
+            try {
+                return Double.parseDouble(trimmed);
+            } catch (NumberFormatException ignored) {
+                // reported by the converter
+            }
+        }
+        return convertValueOrDefault(name, value, doubleConverter, defaultValue);
+    }
+
+    /**
+     * Return the value of a configuration property as a {@code boolean}. When the built-in {@link Boolean} converter
+     * is in use, the value is parsed directly, without going through a {@link Converter} or boxing the result.
+     *
+     * @param name the property name
+     * @return the resolved property value as a {@code boolean}
+     * @throws NoSuchElementException if the property is not defined or is defined as an empty string
+     */
+    @Experimental("Primitive specialized lookup")
+    public boolean getBooleanValue(String name) {
+        final String value = getRawValue(name);
+        if (value != null && booleanConverter == Converters.BOOLEAN_CONVERTER) {
+            final String trimmed = value.trim();
+            if (!trimmed.isEmpty()) {
+                return Converters.parseBoolean(trimmed);
+            }
+        }
+        return convertValue(name, value, booleanConverter);
+    }
+
+    /**
+     * Return the value of a configuration property as a {@code boolean}, or the {@code defaultValue} if the property
+     * is not defined or is defined as an empty string.
+     *
+     * @param name the property name
+     * @param defaultValue the value to return if the property is not defined
+     * @return the resolved property value as a {@code boolean}
+     */
+    @Experimental("Primitive specialized lookup")
+    public boolean getBooleanValue(String name, boolean defaultValue) {
+        final String value = getRawValue(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (booleanConverter == Converters.BOOLEAN_CONVERTER) {
+            final String trimmed = value.trim();
+            return trimmed.isEmpty() ? defaultValue : Converters.parseBoolean(trimmed);
+        }
+        return convertValueOrDefault(name, value, booleanConverter, defaultValue);
+    }
+
     /**
      * Return the content of the direct sub properties as the requested type of Map.
      *
@@ -245,9 +607,12 @@ public class SmallRyeConfig implements Config, Serializable {
      * 
      * This method handles calls from both {@link Config#getValue} and {@link Config#getOptionalValue}.<br>
      */
-    @SuppressWarnings("unchecked")
     public <T> T getValue(String name, Converter<T> converter) {
-        final ConfigValue configValue = getConfigValue(name);
+        return convertValue(name, getConfigValue(name), converter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T convertValue(final String name, final ConfigValue configValue, final Converter<T> converter) {
         if (ConfigValueConverter.CONFIG_VALUE_CONVERTER.equals(converter)) {
             return (T) configValue;
         }
@@ -315,6 +680,16 @@ public class SmallRyeConfig implements Config, Serializable {
         return converted;
     }
 
+    private static <T> T convertValueOrDefault(String name, String value, Converter<T> converter, T defaultValue) {
+        final T converted;
+        try {
+            converted = converter.convert(value);
+        } catch (IllegalArgumentException e) {
+            throw ConfigMessages.msg.converterException(e, name, value, e.getLocalizedMessage());
+        }
+        return converted != null ? converted : defaultValue;
+    }
+
     /**
      * Determine whether the <em>raw value</em> of a configuration property is exactly equal to the expected given
      * value.
@@ -333,6 +708,45 @@ public class SmallRyeConfig implements Config, Serializable {
         return configValue != null ? configValue : ConfigValue.builder().withName(name).build();
     }
 
+    /**
+     * Get the {@link ConfigValue} of a configuration property, with the given {@link LookupOptions}. Unlike
+     * {@link SecretKeys#doUnlocked(java.util.function.Supplier)} or
+     * {@link Expressions#withoutExpansion(java.util.function.Supplier)}, the options are passed
+     * through the interceptor chain, without setting any {@link ThreadLocal}.
+     *
+     * @param name the property name (must not be {@code null})
+     * @param options the options of the lookup (must not be {@code null})
+     * @return the {@link ConfigValue}, with a {@code null} value if the property is not present
+     */
+    @Experimental("Retrieve a configuration value with lookup options")
+    public ConfigValue getConfigValue(final String name, final LookupOptions options) {
+        final ConfigValue configValue = configSources.getInterceptorChain(options).proceed(name);
+        return configValue != null ? configValue : ConfigValue.builder().withName(name).build();
+    }
+
+    /**
+     * Get the {@link ConfigValue} of multiple configuration properties. All the names are looked up with the same
+     * config sources and interceptors, so the values are consistent with each other, even if the configuration is
+     * reloaded while they are retrieved. A name that appears more than once is only looked up once.
+     *
+     * @param names the property names
+     * @return a Map of the property names to their {@link ConfigValue}, in the iteration order of the {@code names}.
+     *         A property without a value is mapped to a {@link ConfigValue} with a {@code null} value, like in
+     *         {@link #getConfigValue(String)}.
+     */
+    @Experimental("Retrieve multiple configuration values in bulk")
+    public Map<String, ConfigValue> getConfigValues(final Collection<String> names) {
+        final ConfigSourceInterceptorContext interceptorChain = configSources.getInterceptorChain();
+        final Map<String, ConfigValue> configValues = new LinkedHashMap<>((int) (names.size() / 0.75f) + 1);
+        for (String name : names) {
+            if (!configValues.containsKey(name)) {
+                final ConfigValue configValue = interceptorChain.proceed(name);
+                configValues.put(name, configValue != null ? configValue : ConfigValue.builder().withName(name).build());
+            }
+        }
+        return configValues;
+    }
+
     /**
      * Get the <em>raw value</em> of a configuration property.
      *
@@ -391,14 +805,15 @@ public class SmallRyeConfig implements Config, Serializable {
 
     public <T, C extends Collection<T>> Optional<C> getIndexedOptionalValues(String name, Converter<T> converter,
             IntFunction<C> collectionFactory) {
-        List<String> indexedProperties = getIndexedProperties(name);
-        if (indexedProperties.isEmpty()) {
+        List<ConfigValue> indexedValues = getIndexedConfigValues(name);
+        if (indexedValues.isEmpty()) {
             return Optional.empty();
         }
 
-        final C collection = collectionFactory.apply(indexedProperties.size());
-        for (String indexedProperty : indexedProperties) {
-            final Optional<T> optionalValue = getOptionalValue(indexedProperty, converter);
+        final C collection = collectionFactory.apply(indexedValues.size());
+        final Converter<Optional<T>> optionalConverter = Converters.newOptionalConverter(converter);
+        for (ConfigValue indexedValue : indexedValues) {
+            final Optional<T> optionalValue = convertValue(indexedValue.getName(), indexedValue, optionalConverter);
             optionalValue.ifPresent(collection::add);
         }
 
@@ -409,20 +824,64 @@ public class SmallRyeConfig implements Config, Serializable {
         return Optional.empty();
     }
 
+    /**
+     * Create a {@link ConfigPropertyHandle} to read the property {@code name} converted to {@code type}. The
+     * converter is resolved when the handle is created, and the value is looked up and converted once, on the first
+     * access of the handle.
+     *
+     * @param name the property name
+     * @param type the property type
+     * @param <T> the property type
+     * @return a {@link ConfigPropertyHandle} for the property
+     * @throws IllegalArgumentException if no {@link Converter} is registered for the {@code type}
+     */
+    @Experimental("Precomputed handle to read a configuration property repeatedly")
+    public <T> ConfigPropertyHandle<T> handle(String name, Class<T> type) {
+        return handle(name, requireConverter(type));
+    }
+
+    /**
+     * Create a {@link ConfigPropertyHandle} to read the property {@code name} with the {@code converter}.
+     *
+     * @param name the property name
+     * @param converter the converter to use for the property value
+     * @param <T> the property type
+     * @return a {@link ConfigPropertyHandle} for the property
+     */
+    @Experimental("Precomputed handle to read a configuration property repeatedly")
+    public <T> ConfigPropertyHandle<T> handle(String name, Converter<T> converter) {
+        return new ConfigPropertyHandle<>(this, name, converter);
+    }
+
     public ConfigMappings getConfigMappings() {
         return mappings;
     }
 
     @Experimental("ConfigMapping API to group configuration properties")
     public <T> T getConfigMapping(Class<T> type) {
+        awaitMappings();
         return mappings.getConfigMapping(type);
     }
 
     @Experimental("ConfigMapping API to group configuration properties")
     public <T> T getConfigMapping(Class<T> type, String prefix) {
+        awaitMappings();
         return mappings.getConfigMapping(type, prefix);
     }
 
+    /**
+     * The sources are published before the mappings of their values. If a lookup may have seen sources which mappings
+     * are not published yet, wait for the change in progress to complete, so the mappings are never older than the
+     * values already seen.
+     */
+    private void awaitMappings() {
+        if (mappings.getVersion() < configSources.getVersion()) {
+            synchronized (reloadLock) {
+                // the sources and the mappings are published while holding the lock
+            }
+        }
+    }
+
     @Override
     public Iterable<String> getPropertyNames() {
         final HashSet<String> names = new HashSet<>();
@@ -446,7 +905,7 @@ public class SmallRyeConfig implements Config, Serializable {
      */
     @Experimental("Check if a property is present")
     public boolean isPropertyPresent(String name) {
-        return Expressions.withoutExpansion(() -> getConfigValue(name).getValue() != null);
+        return getConfigValue(name, LookupOptions.DEFAULT.disableExpansion()).getValue() != null;
     }
 
     @Override
@@ -499,6 +958,18 @@ public class SmallRyeConfig implements Config, Serializable {
         if (exactConverter != null) {
             return (Converter<T>) exactConverter;
         }
+
+        final Converter<T> converter = resolveConverter(asType);
+        if (converter == null) {
+            return null;
+        }
+        // Keep the resolved converter, so the next lookup for the same type is a single map read
+        final Converter<?> existing = converters.putIfAbsent(asType, converter);
+        return existing != null ? (Converter<T>) existing : converter;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Converter<T> resolveConverter(Class<T> asType) {
         if (asType.isPrimitive()) {
             return (Converter<T>) getConverterOrNull(Converters.wrapPrimitiveType(asType));
         }
@@ -506,7 +977,7 @@ public class SmallRyeConfig implements Config, Serializable {
             final Converter<?> conv = getConverterOrNull(asType.getComponentType());
             return conv == null ? null : Converters.newArrayConverter(conv, asType);
         }
-        return (Converter<T>) converters.computeIfAbsent(asType, clazz -> ImplicitConverters.getConverter((Class<?>) clazz));
+        return ImplicitConverters.getConverter(asType);
     }
 
     @Override
@@ -523,12 +994,203 @@ public class SmallRyeConfig implements Config, Serializable {
         return configSources.getProfiles();
     }
 
+    /**
+     * Return the version of the configuration values. The version starts at {@code 0} and increases every time the
+     * configuration is reloaded with {@link #reload()}, or a {@link ReloadableConfigSource} publishes new contents.
+     * Values derived from the configuration can be kept as long as the version does not change.
+     *
+     * @return the version of the configuration values
+     */
+    @Experimental("Reload of the configuration")
+    public long getVersion() {
+        return configSources.getVersion();
+    }
+
+    /**
+     * Reload the configuration. The config sources are initialized again from the sources and interceptors used to
+     * build this config, which includes the sources provided by {@link ConfigurableConfigSource}, like the
+     * {@link #SMALLRYE_CONFIG_LOCATIONS} sources. Config mappings are mapped again with the reloaded values.
+     * <p>
+     *
+     * Lookups are never blocked by a reload. The config mappings are mapped with the reloaded sources before they are
+     * published, and the sources and mappings are published together: a lookup either sees the previous values and
+     * mappings, or the reloaded values and mappings. If the reloaded values cannot be mapped, nothing is published and
+     * an {@link IllegalStateException} is thrown.
+     *
+     * @throws IllegalStateException if the config mappings fail to map the reloaded values
+     */
+    @Experimental("Reload of the configuration")
+    public void reload() {
+        final boolean deliver;
+        synchronized (reloadLock) {
+            final ConfigSources previous = configSources;
+            final ConfigSources reloaded = new ConfigSources(sourcesToBuild, interceptorsToBuild, previous.getVersion() + 1);
+            publish(reloaded);
+            unregisterSourceChangeListener(previous, reloaded);
+            registerSourceChangeListener(reloaded);
+            deliver = queueChange(getChangedNames(previous, reloaded));
+        }
+        if (deliver) {
+            deliverChanges();
+        }
+    }
+
+    /**
+     * Register a listener, to be notified every time the configuration values change, either with a
+     * {@link #reload()} or when a {@link ReloadableConfigSource} publishes new contents. Registering the same
+     * listener more than once has no effect.
+     *
+     * @param listener the listener to register
+     */
+    @Experimental("Reload of the configuration")
+    public void addChangeListener(final ConfigChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Unregister a listener previously registered with {@link #addChangeListener(ConfigChangeListener)}.
+     *
+     * @param listener the listener to unregister
+     */
+    @Experimental("Reload of the configuration")
+    public void removeChangeListener(final ConfigChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    private void registerSourceChangeListener(final ConfigSources configSources) {
+        for (ConfigSource configSource : configSources.getSources()) {
+            if (configSource instanceof ReloadableConfigSource) {
+                ((ReloadableConfigSource) configSource).addChangeListener(sourceChangeListener);
+            }
+        }
+    }
+
+    private void unregisterSourceChangeListener(final ConfigSources previous, final ConfigSources current) {
+        for (ConfigSource configSource : previous.getSources()) {
+            if (configSource instanceof ReloadableConfigSource && !current.getSources().contains(configSource)) {
+                ((ReloadableConfigSource) configSource).removeChangeListener(sourceChangeListener);
+            }
+        }
+    }
+
+    /**
+     * Called when a {@link ReloadableConfigSource} published new contents. If the new values cannot be mapped, the
+     * exception is thrown back to the source, which restores its previous contents.
+     */
+    private void sourceChanged(final Set<String> names) {
+        final boolean deliver;
+        synchronized (reloadLock) {
+            final ConfigSources current = configSources;
+            publish(new ConfigSources(current, current.getVersion() + 1));
+            deliver = queueChange(names);
+        }
+        if (deliver) {
+            deliverChanges();
+        }
+    }
+
+    /**
+     * Map the configuration with the new sources, and publish both the sources and the mappings. Must be called while
+     * holding the {@link #reloadLock}.
+     *
+     * @throws IllegalStateException if the config mappings fail to map the values of the new sources
+     */
+    private void publish(final ConfigSources configSources) {
+        final ConfigMappings.Mappings remapped;
+        try {
+            remapped = mappings.remapConfiguration(new SmallRyeConfig(this, configSources), configSources.getVersion());
+        } catch (ConfigValidationException e) {
+            throw new IllegalStateException(e);
+        }
+        this.configSources = configSources;
+        mappings.publish(remapped);
+    }
+
+    /**
+     * Queue a change to deliver to the listeners. Must be called while holding the {@link #reloadLock}.
+     *
+     * @return {@code true} if the caller must deliver the queued changes, or {@code false} if there is nothing to
+     *         deliver or another thread is already delivering changes
+     */
+    private boolean queueChange(final Set<String> names) {
+        if (!names.isEmpty()) {
+            pendingChanges.add(names);
+        }
+        if (deliveringChanges || pendingChanges.isEmpty()) {
+            return false;
+        }
+        deliveringChanges = true;
+        return true;
+    }
+
+    /**
+     * Deliver the queued changes to the listeners, outside the {@link #reloadLock}, so a listener may reload the
+     * configuration. Changes queued while delivering are delivered by the same thread.
+     */
+    private void deliverChanges() {
+        boolean delivered = false;
+        try {
+            for (;;) {
+                final Set<String> names;
+                synchronized (reloadLock) {
+                    names = pendingChanges.poll();
+                    if (names == null) {
+                        deliveringChanges = false;
+                        delivered = true;
+                        return;
+                    }
+                }
+                for (ConfigChangeListener listener : changeListeners) {
+                    listener.onChange(names);
+                }
+            }
+        } finally {
+            if (!delivered) {
+                synchronized (reloadLock) {
+                    deliveringChanges = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Compare the raw values of two snapshots of the sources. The values are compared without expansion, because
+     * the expansion of a changed value is reported with the name of the changed value itself.
+     */
+    private static Set<String> getChangedNames(final ConfigSources previous, final ConfigSources current) {
+        final LookupOptions options = LookupOptions.DEFAULT.unlockSecrets().disableExpansion();
+        final ConfigSourceInterceptorContext previousChain = previous.getInterceptorChain(options);
+        final ConfigSourceInterceptorContext currentChain = current.getInterceptorChain(options);
+
+        final Set<String> names = new HashSet<>();
+        final Iterator<String> previousNames = previousChain.iterateNames();
+        while (previousNames.hasNext()) {
+            names.add(previousNames.next());
+        }
+        final Iterator<String> currentNames = currentChain.iterateNames();
+        while (currentNames.hasNext()) {
+            names.add(currentNames.next());
+        }
+
+        final Set<String> changed = new HashSet<>();
+        for (String name : names) {
+            final ConfigValue previousValue = previousChain.proceed(name);
+            final ConfigValue currentValue = currentChain.proceed(name);
+            if (!Objects.equals(previousValue != null ? previousValue.getValue() : null,
+                    currentValue != null ? currentValue.getValue() : null)) {
+                changed.add(name);
+            }
+        }
+        return Collections.unmodifiableSet(changed);
+    }
+
     private static class ConfigSources implements Serializable {
         private static final long serialVersionUID = 3483018375584151712L;
 
         private final List<String> profiles;
         private final List<ConfigSource> sources;
-        private final ConfigSourceInterceptorContext interceptorChain;
+        private final SmallRyeConfigSourceInterceptorContext interceptorChain;
+        private final long version;
 
         /**
          * Builds a representation of Config Sources, Interceptors and the Interceptor chain to be used in Config. Note
@@ -540,8 +1202,10 @@ public class SmallRyeConfig implements Config, Serializable {
          *
          * @param sources the Config Sources to be part of Config.
          * @param interceptors the Interceptors to be part of Config.
+         * @param version the version of the config values.
          */
-        ConfigSources(final List<ConfigSource> sources, final List<InterceptorWithPriority> interceptors) {
+        ConfigSources(final List<ConfigSource> sources, final List<InterceptorWithPriority> interceptors,
+                final long version) {
             final List<ConfigSourceInterceptorWithPriority> sortInterceptors = new ArrayList<>();
             // Add all sources except for ConfigurableConfigSource types. These are initialized later
             // Sources are converted to the interceptor API
@@ -581,7 +1245,22 @@ public class SmallRyeConfig implements Config, Serializable {
 
             this.profiles = profiles;
             this.sources = Collections.unmodifiableList(configSources);
-            this.interceptorChain = current;
+            this.interceptorChain = current.initLookupOptions();
+            this.version = version;
+        }
+
+        /**
+         * Keeps the same Config Sources and Interceptor chain with a new version, when the contents of a
+         * {@link ReloadableConfigSource} change.
+         *
+         * @param configSources the current Config Sources.
+         * @param version the new version of the config values.
+         */
+        ConfigSources(final ConfigSources configSources, final long version) {
+            this.profiles = configSources.profiles;
+            this.sources = configSources.sources;
+            this.interceptorChain = configSources.interceptorChain;
+            this.version = version;
         }
 
         private static List<ConfigSourceInterceptorWithPriority> mapSources(final List<ConfigSource> sources) {
@@ -689,6 +1368,14 @@ public class SmallRyeConfig implements Config, Serializable {
         ConfigSourceInterceptorContext getInterceptorChain() {
             return interceptorChain;
         }
+
+        ConfigSourceInterceptorContext getInterceptorChain(final LookupOptions options) {
+            return interceptorChain.withLookupOptions(options);
+        }
+
+        long getVersion() {
+            return version;
+        }
     }
 
     static class ConfigSourceInterceptorWithPriority implements Comparable<ConfigSourceInterceptorWithPriority>, Serializable {
@@ -19,6 +19,7 @@ package io.smallrye.config;
 import static io.smallrye.config.PropertiesConfigSourceProvider.classPathSources;
 
 import java.lang.reflect.Type;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -41,6 +42,8 @@ import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.eclipse.microprofile.config.spi.ConfigSourceProvider;
 import org.eclipse.microprofile.config.spi.Converter;
 
+import io.smallrye.common.annotation.Experimental;
+
 /**
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2017 Red Hat inc.
  */
@@ -63,6 +66,7 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
     private boolean addDiscoveredConverters = false;
     private boolean addDiscoveredInterceptors = false;
     private boolean addDiscoveredValidator = false;
+    private Path snapshot;
 
     public SmallRyeConfigBuilder() {
     }
@@ -294,6 +298,30 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         return this;
     }
 
+    /**
+     * Keeps a binary snapshot of the discovered and the default sources in the given file, to skip the discovery and
+     * the parsing of these sources in the next builds.
+     * <p>
+     *
+     * The first build discovers the sources and writes the snapshot. The next builds read the snapshot instead, if
+     * the resources read by the sources did not change, and if the profiles and the values used by the
+     * {@link ConfigSourceFactory} to create sources are the same. Otherwise, the sources are discovered again and the
+     * snapshot is replaced. The environment variables and system properties are always read, and the sources added
+     * with {@link #withSources(ConfigSource...)} are never part of the snapshot.
+     * <p>
+     *
+     * A snapshot is only written if every discovered source was read from a resource. New resources are not detected
+     * by the snapshot, so the snapshot file must be removed when resources are added.
+     *
+     * @param snapshot the snapshot file
+     * @return this {@link SmallRyeConfigBuilder}
+     */
+    @Experimental("Binary snapshot of the configuration sources")
+    public SmallRyeConfigBuilder withSnapshot(Path snapshot) {
+        this.snapshot = snapshot;
+        return this;
+    }
+
     public SmallRyeConfigBuilder withValidateUnknown(boolean validateUnknown) {
         mappingsBuilder.validateUnknown(validateUnknown);
         withDefaultValue(SmallRyeConfig.SMALLRYE_CONFIG_MAPPING_VALIDATE_UNKNOWN, Boolean.toString(validateUnknown));
@@ -364,6 +392,10 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         return validator;
     }
 
+    Path getSnapshot() {
+        return snapshot;
+    }
+
     KeyMap<String> getDefaultValues() {
         return defaultValues;
     }
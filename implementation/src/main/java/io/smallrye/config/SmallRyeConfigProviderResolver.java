@@ -17,6 +17,9 @@ package io.smallrye.config;
 
 import static io.smallrye.config.SecuritySupport.getContextClassLoader;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Iterator;
@@ -32,9 +35,22 @@ import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
  */
 public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
-    private final Map<ClassLoader, Config> configsForClassLoader = new ConcurrentHashMap<>();
+    /**
+     * The configs of each ClassLoader. The ClassLoaders are weakly referenced, and each one has its own holder to
+     * initialize the config lazily, so the creation of a config does not block the lookups of other ClassLoaders.
+     */
+    private final Map<ClassLoaderKey, ConfigHolder> configsForClassLoader = new ConcurrentHashMap<>();
+    private final ReferenceQueue<ClassLoader> collectedClassLoaders = new ReferenceQueue<>();
+    /**
+     * If {@code true}, a config that is the only one known to this resolver is returned for every ClassLoader, without
+     * resolving the ClassLoader of the caller.
+     */
+    private final boolean singleConfigMode;
+    private volatile Config singleConfig;
+    private final Object singleConfigLock = new Object();
 
     static final ClassLoader SYSTEM_CL;
+    static final boolean SINGLE_CONFIG;
 
     static {
         final SecurityManager sm = System.getSecurityManager();
@@ -44,9 +60,16 @@ public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
         } else {
             SYSTEM_CL = calculateSystemClassLoader();
         }
+        SINGLE_CONFIG = Boolean.parseBoolean(AccessController.doPrivileged(
+                (PrivilegedAction<String>) () -> System.getProperty("io.smallrye.config.resolver.single-config")));
     }
 
     public SmallRyeConfigProviderResolver() {
+        this(SINGLE_CONFIG);
+    }
+
+    SmallRyeConfigProviderResolver(final boolean singleConfigMode) {
+        this.singleConfigMode = singleConfigMode;
     }
 
     private static ClassLoader calculateSystemClassLoader() {
@@ -61,28 +84,29 @@ public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
 
     @Override
     public Config getConfig() {
+        final Config singleConfig = this.singleConfig;
+        if (singleConfig != null) {
+            return singleConfig;
+        }
         return getConfig(getContextClassLoader());
     }
 
     @Override
     public Config getConfig(ClassLoader classLoader) {
+        final Config singleConfig = this.singleConfig;
+        if (singleConfig != null) {
+            return singleConfig;
+        }
+
         final ClassLoader realClassLoader = getRealClassLoader(classLoader);
-        final Map<ClassLoader, Config> configsForClassLoader = this.configsForClassLoader;
-        Config config = configsForClassLoader.get(realClassLoader);
-        if (config == null) {
-            synchronized (configsForClassLoader) {
-                config = configsForClassLoader.get(realClassLoader);
-                if (config == null) {
-                    config = getFactoryFor(realClassLoader, false).getConfigFor(this, classLoader);
-                    // don't cache null, as that would leak class loaders
-                    if (config == null) {
-                        throw ConfigMessages.msg.noConfigForClassloader();
-                    }
-                    configsForClassLoader.put(realClassLoader, config);
-                }
-            }
+        final ConfigHolder holder = configsForClassLoader.get(new ClassLoaderKey(realClassLoader));
+        final Config config = holder != null ? holder.config : null;
+        if (config != null) {
+            return config;
         }
-        return config;
+        final Config created = getHolder(realClassLoader).getConfig(this, realClassLoader, classLoader);
+        updateSingleConfig();
+        return created;
     }
 
     SmallRyeConfigFactory getFactoryFor(final ClassLoader classLoader, final boolean privileged) {
@@ -110,23 +134,67 @@ public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
         if (config == null) {
             throw ConfigMessages.msg.configIsNull();
         }
-        final ClassLoader realClassLoader = getRealClassLoader(classLoader);
-        final Map<ClassLoader, Config> configsForClassLoader = this.configsForClassLoader;
-        synchronized (configsForClassLoader) {
-            final Config existing = configsForClassLoader.putIfAbsent(realClassLoader, config);
-            if (existing != null) {
-                throw ConfigMessages.msg.configAlreadyRegistered();
-            }
-        }
+        getHolder(getRealClassLoader(classLoader)).register(config);
+        updateSingleConfig();
     }
 
     @Override
     public void releaseConfig(Config config) {
         // todo: see https://github.com/eclipse/microprofile-config/issues/136#issuecomment-535962313
         // todo: see https://github.com/eclipse/microprofile-config/issues/471
-        final Map<ClassLoader, Config> configsForClassLoader = this.configsForClassLoader;
-        synchronized (configsForClassLoader) {
-            configsForClassLoader.values().removeIf(v -> v == config);
+        final Map<ClassLoaderKey, ConfigHolder> configsForClassLoader = this.configsForClassLoader;
+        for (Map.Entry<ClassLoaderKey, ConfigHolder> entry : configsForClassLoader.entrySet()) {
+            final ConfigHolder holder = entry.getValue();
+            if (holder.config == config && holder.release(config)) {
+                configsForClassLoader.remove(entry.getKey(), holder);
+            }
+        }
+        expungeCollectedClassLoaders();
+        updateSingleConfig();
+    }
+
+    private ConfigHolder getHolder(final ClassLoader classLoader) {
+        expungeCollectedClassLoaders();
+        final Map<ClassLoaderKey, ConfigHolder> configsForClassLoader = this.configsForClassLoader;
+        final ConfigHolder holder = configsForClassLoader.get(new ClassLoaderKey(classLoader));
+        if (holder != null) {
+            return holder;
+        }
+        final ConfigHolder newHolder = new ConfigHolder();
+        final ConfigHolder existing = configsForClassLoader
+                .putIfAbsent(new ClassLoaderKey(classLoader, collectedClassLoaders), newHolder);
+        return existing != null ? existing : newHolder;
+    }
+
+    /**
+     * Sets the config served to every ClassLoader in the single config mode, if the resolver knows exactly one config.
+     * Called after each change of the registered configs, and synchronized, so concurrent changes cannot publish a
+     * stale single config.
+     */
+    private void updateSingleConfig() {
+        if (!singleConfigMode) {
+            return;
+        }
+        synchronized (singleConfigLock) {
+            Config single = null;
+            for (ConfigHolder holder : configsForClassLoader.values()) {
+                final Config config = holder.config;
+                if (config != null) {
+                    if (single != null && single != config) {
+                        single = null;
+                        break;
+                    }
+                    single = config;
+                }
+            }
+            this.singleConfig = single;
+        }
+    }
+
+    private void expungeCollectedClassLoaders() {
+        Reference<? extends ClassLoader> collected;
+        while ((collected = collectedClassLoaders.poll()) != null) {
+            configsForClassLoader.remove(collected);
         }
     }
 
@@ -139,4 +207,79 @@ public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
         }
         return classLoader;
     }
+
+    /**
+     * Holds the config of a ClassLoader. The config is created under the lock of the holder, so only the callers of the
+     * same ClassLoader wait for it.
+     */
+    private static final class ConfigHolder {
+        private volatile Config config;
+
+        Config getConfig(final SmallRyeConfigProviderResolver resolver, final ClassLoader realClassLoader,
+                final ClassLoader classLoader) {
+            Config config = this.config;
+            if (config == null) {
+                synchronized (this) {
+                    config = this.config;
+                    if (config == null) {
+                        config = resolver.getFactoryFor(realClassLoader, false).getConfigFor(resolver, classLoader);
+                        if (config == null) {
+                            throw ConfigMessages.msg.noConfigForClassloader();
+                        }
+                        this.config = config;
+                    }
+                }
+            }
+            return config;
+        }
+
+        synchronized void register(final Config config) {
+            if (this.config != null) {
+                throw ConfigMessages.msg.configAlreadyRegistered();
+            }
+            this.config = config;
+        }
+
+        synchronized boolean release(final Config config) {
+            if (this.config == config) {
+                this.config = null;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A weak reference to a ClassLoader, compared by the identity of the ClassLoader.
+     */
+    private static final class ClassLoaderKey extends WeakReference<ClassLoader> {
+        private final int hashCode;
+
+        ClassLoaderKey(final ClassLoader classLoader) {
+            super(classLoader);
+            this.hashCode = System.identityHashCode(classLoader);
+        }
+
+        ClassLoaderKey(final ClassLoader classLoader, final ReferenceQueue<ClassLoader> queue) {
+            super(classLoader, queue);
+            this.hashCode = System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ClassLoaderKey)) {
+                return false;
+            }
+            final ClassLoader classLoader = get();
+            return classLoader != null && classLoader == ((ClassLoaderKey) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -7,12 +7,26 @@ class SmallRyeConfigSourceInterceptorContext implements ConfigSourceInterceptorC
 
     private final ConfigSourceInterceptor interceptor;
     private final SmallRyeConfigSourceInterceptorContext next;
+    private final LookupOptions options;
+    /**
+     * The same position in the chain for each {@link LookupOptions}, indexed by {@link LookupOptions#index()}. Only
+     * set in the final chain, see {@link #initLookupOptions()}.
+     */
+    private SmallRyeConfigSourceInterceptorContext[] variants;
 
     SmallRyeConfigSourceInterceptorContext(
             final ConfigSourceInterceptor interceptor,
             final SmallRyeConfigSourceInterceptorContext next) {
+        this(interceptor, next, LookupOptions.DEFAULT);
+    }
+
+    private SmallRyeConfigSourceInterceptorContext(
+            final ConfigSourceInterceptor interceptor,
+            final SmallRyeConfigSourceInterceptorContext next,
+            final LookupOptions options) {
         this.interceptor = interceptor;
         this.next = next;
+        this.options = options;
     }
 
     @Override
@@ -20,6 +34,22 @@ class SmallRyeConfigSourceInterceptorContext implements ConfigSourceInterceptorC
         return interceptor.getValue(next, name);
     }
 
+    @Override
+    public ConfigValue proceed(final String name, final LookupOptions options) {
+        if (this.options == options) {
+            return proceed(name);
+        }
+        if (variants != null) {
+            return variants[options.index()].proceed(name);
+        }
+        return ConfigSourceInterceptorContext.super.proceed(name, options);
+    }
+
+    @Override
+    public LookupOptions getLookupOptions() {
+        return options;
+    }
+
     @Override
     public Iterator<String> iterateNames() {
         return interceptor.iterateNames(next);
@@ -29,4 +59,49 @@ class SmallRyeConfigSourceInterceptorContext implements ConfigSourceInterceptorC
     public Iterator<ConfigValue> iterateValues() {
         return interceptor.iterateValues(next);
     }
+
+    /**
+     * Creates a copy of this chain for each {@link LookupOptions}, with the same interceptor instances, so the options
+     * are passed through the chain without any allocation or {@link ThreadLocal} access on lookups.
+     *
+     * @return this chain.
+     */
+    SmallRyeConfigSourceInterceptorContext initLookupOptions() {
+        initLookupOptions(this);
+        return this;
+    }
+
+    /**
+     * @param context a {@link LookupOptions#DEFAULT} context, or {@code null} at the end of the chain
+     * @return the variants of the context, or {@code null} at the end of the chain
+     */
+    private static SmallRyeConfigSourceInterceptorContext[] initLookupOptions(
+            final SmallRyeConfigSourceInterceptorContext context) {
+        if (context == null) {
+            return null;
+        }
+
+        final SmallRyeConfigSourceInterceptorContext[] nextVariants = initLookupOptions(context.next);
+        final SmallRyeConfigSourceInterceptorContext[] variants = new SmallRyeConfigSourceInterceptorContext[LookupOptions
+                .size()];
+        variants[LookupOptions.DEFAULT.index()] = context;
+        for (int i = 0; i < variants.length; i++) {
+            if (variants[i] == null) {
+                variants[i] = new SmallRyeConfigSourceInterceptorContext(context.interceptor,
+                        nextVariants != null ? nextVariants[i] : null, LookupOptions.of(i));
+            }
+        }
+        for (SmallRyeConfigSourceInterceptorContext variant : variants) {
+            variant.variants = variants;
+        }
+        return variants;
+    }
+
+    /**
+     * @param options the options of the lookup
+     * @return the chain at the same position for the options, once {@link #initLookupOptions()} is called
+     */
+    SmallRyeConfigSourceInterceptorContext withLookupOptions(final LookupOptions options) {
+        return this.options == options ? this : variants[options.index()];
+    }
 }
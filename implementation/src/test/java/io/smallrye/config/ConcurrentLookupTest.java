@@ -0,0 +1,123 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentLookupTest {
+    private static final int TASKS = 20_000;
+
+    @Test
+    void platformThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            lookups(buildConfig(), executor);
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    @Test
+    void virtualThreads() throws Exception {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        assumeTrue(executor != null, "Virtual threads are not available");
+        try {
+            lookups(buildConfig(), executor);
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    @Test
+    void throughput() throws Exception {
+        ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+        assumeTrue(virtual != null, "Virtual threads are not available");
+        ExecutorService platform = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            SmallRyeConfig config = buildConfig();
+            // warm up
+            lookups(config, platform);
+            lookups(config, virtual);
+
+            long platformTime = lookups(config, platform);
+            long virtualTime = lookups(config, virtual);
+            // one virtual thread per task must stay in the range of a pool of platform threads
+            assertTrue(virtualTime < platformTime * 4,
+                    "virtual threads " + virtualTime + "ns, platform threads " + platformTime + "ns");
+        } finally {
+            shutdown(virtual);
+            shutdown(platform);
+        }
+    }
+
+    /**
+     * Runs lookups that unlock the secret keys or disable the expansion on some tasks only, and checks that the state
+     * of a task never leaks to another.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    private static long lookups(final SmallRyeConfig config, final ExecutorService executor) throws Exception {
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            final int task = i;
+            futures.add(executor.submit(() -> {
+                switch (task % 4) {
+                    case 0:
+                        assertEquals("secret", SecretKeys.doUnlocked(() -> config.getRawValue("secret")));
+                        assertEquals("1234", config.getRawValue("expression"));
+                        break;
+                    case 1:
+                        assertEquals("${my.prop}", Expressions.withoutExpansion(() -> config.getRawValue("expression")));
+                        assertThrows(SecurityException.class, () -> config.getRawValue("secret"));
+                        break;
+                    case 2:
+                        assertEquals("secret",
+                                config.getConfigValue("secret", LookupOptions.DEFAULT.unlockSecrets()).getValue());
+                        assertEquals("${my.prop}",
+                                config.getConfigValue("expression", LookupOptions.DEFAULT.disableExpansion()).getValue());
+                        break;
+                    default:
+                        assertEquals("1234", config.getRawValue("expression"));
+                        assertThrows(SecurityException.class, () -> config.getRawValue("secret"));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static void shutdown(final ExecutorService executor) throws InterruptedException {
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    private static SmallRyeConfig buildConfig() {
+        return new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(config("my.prop", "1234", "expression", "${my.prop}", "secret", "secret"))
+                .withSecretKeys("secret")
+                .build();
+    }
+}
@@ -7,6 +7,8 @@ import static io.smallrye.config.KeyValuesConfigSource.config;
 import static java.util.Collections.singleton;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Map;
@@ -128,6 +130,26 @@ public class ConfigMappingsTest {
         assertEquals(8080, server.port);
     }
 
+    @Test
+    void cachedMapping() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("server.host", "localhost", "server.port", "8080", "client.host", "client",
+                        "client.port", "9090"))
+                .withMapping(ServerClass.class, "server")
+                .withMapping(ServerClass.class, "client")
+                .build();
+
+        ServerClass server = config.getConfigMapping(ServerClass.class, "server");
+        assertSame(server, config.getConfigMapping(ServerClass.class, "server"));
+        assertEquals("localhost", server.host);
+
+        ServerClass client = config.getConfigMapping(ServerClass.class, "client");
+        assertSame(client, config.getConfigMapping(ServerClass.class, "client"));
+        assertNotSame(server, client);
+        assertEquals("client", client.host);
+        assertEquals(9090, client.port);
+    }
+
     @ConfigMapping(prefix = "server")
     interface Server {
         String host();
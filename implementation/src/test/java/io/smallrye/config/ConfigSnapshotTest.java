@@ -0,0 +1,120 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.SmallRyeConfig.SMALLRYE_CONFIG_LOCATIONS;
+import static io.smallrye.config.SmallRyeConfig.SMALLRYE_CONFIG_PROFILE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConfigSnapshotTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void snapshot() throws Exception {
+        Path properties = write("config.properties", "my.prop=1234\n");
+        Path snapshot = tempDir.resolve("config.snapshot");
+
+        SmallRyeConfig config = buildConfig(properties, snapshot, "prod");
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertFalse(isFromSnapshot(config));
+        assertTrue(Files.exists(snapshot));
+
+        config = buildConfig(properties, snapshot, "prod");
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertTrue(isFromSnapshot(config));
+        assertTrue(config.getConfigValue("my.prop").getSourceName().contains("config.properties"));
+    }
+
+    @Test
+    void changedResource() throws Exception {
+        Path properties = write("config.properties", "my.prop=1234\n");
+        Path snapshot = tempDir.resolve("config.snapshot");
+        buildConfig(properties, snapshot, "prod");
+
+        write("config.properties", "my.prop=5678\n");
+        SmallRyeConfig config = buildConfig(properties, snapshot, "prod");
+        assertEquals("5678", config.getRawValue("my.prop"));
+        assertFalse(isFromSnapshot(config));
+
+        config = buildConfig(properties, snapshot, "prod");
+        assertEquals("5678", config.getRawValue("my.prop"));
+        assertTrue(isFromSnapshot(config));
+    }
+
+    @Test
+    void changedProfile() throws Exception {
+        Path properties = write("config.properties", "my.prop=1234\n");
+        write("config-dev.properties", "my.prop=dev\n");
+        Path snapshot = tempDir.resolve("config.snapshot");
+
+        SmallRyeConfig config = buildConfig(properties, snapshot, "prod");
+        assertEquals("1234", config.getRawValue("my.prop"));
+
+        config = buildConfig(properties, snapshot, "dev");
+        assertEquals("dev", config.getRawValue("my.prop"));
+        assertFalse(isFromSnapshot(config));
+
+        config = buildConfig(properties, snapshot, "dev");
+        assertEquals("dev", config.getRawValue("my.prop"));
+        assertTrue(isFromSnapshot(config));
+    }
+
+    @Test
+    void changedLocations() throws Exception {
+        Path properties = write("config.properties", "my.prop=1234\n");
+        Path other = write("other.properties", "my.prop=5678\n");
+        Path snapshot = tempDir.resolve("config.snapshot");
+
+        buildConfig(properties, snapshot, "prod");
+        SmallRyeConfig config = buildConfig(other, snapshot, "prod");
+        assertEquals("5678", config.getRawValue("my.prop"));
+        assertFalse(isFromSnapshot(config));
+    }
+
+    @Test
+    void corruptedSnapshot() throws Exception {
+        Path properties = write("config.properties", "my.prop=1234\n");
+        Path snapshot = write("config.snapshot", "not a snapshot");
+
+        SmallRyeConfig config = buildConfig(properties, snapshot, "prod");
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertFalse(isFromSnapshot(config));
+
+        config = buildConfig(properties, snapshot, "prod");
+        assertTrue(isFromSnapshot(config));
+    }
+
+    private Path write(final String name, final String contents) throws IOException {
+        return Files.write(tempDir.resolve(name), contents.getBytes(UTF_8));
+    }
+
+    private static SmallRyeConfig buildConfig(final Path properties, final Path snapshot, final String profile) {
+        return new SmallRyeConfigBuilder()
+                .addDiscoveredSources()
+                .addDefaultSources()
+                .addDefaultInterceptors()
+                .withDefaultValue(SMALLRYE_CONFIG_LOCATIONS, properties.toUri().toString())
+                .withDefaultValue(SMALLRYE_CONFIG_PROFILE, profile)
+                .withSnapshot(snapshot)
+                .build();
+    }
+
+    private static boolean isFromSnapshot(final SmallRyeConfig config) {
+        for (ConfigSource source : config.getConfigSources()) {
+            if (source instanceof ConfigSnapshot.SnapshotConfigSource) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -377,6 +377,19 @@ class ConvertersTest {
         assertThrows(NullPointerException.class, () -> convertNull(config, OptionalDouble.class));
     }
 
+    @Test
+    void resolvedConverters() {
+        final SmallRyeConfig config = buildConfig("int.array", "1,2,3", "date.array", "2019-04-01,2020-05-02");
+        assertSame(config.requireConverter(Integer.class), config.requireConverter(int.class));
+        assertSame(config.requireConverter(int[].class), config.requireConverter(int[].class));
+        assertSame(config.requireConverter(LocalDate.class), config.requireConverter(LocalDate.class));
+        assertSame(config.requireConverter(LocalDate[].class), config.requireConverter(LocalDate[].class));
+
+        assertArrayEquals(new int[] { 1, 2, 3 }, config.getValue("int.array", int[].class));
+        assertArrayEquals(new LocalDate[] { LocalDate.of(2019, 4, 1), LocalDate.of(2020, 5, 2) },
+                config.getValue("date.array", LocalDate[].class));
+    }
+
     @SafeVarargs
     private static <T> T[] array(T... items) {
         return items;
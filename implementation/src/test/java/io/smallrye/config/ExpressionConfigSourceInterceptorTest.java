@@ -114,6 +114,18 @@ class ExpressionConfigSourceInterceptorTest {
         assertEquals("1234", config.getValue("expression", String.class));
     }
 
+    @Test
+    void withoutExpansionLookupOptions() {
+        SmallRyeConfig config = buildConfig("my.prop", "1234", "expression", "${my.prop}");
+
+        LookupOptions withoutExpansion = LookupOptions.DEFAULT.disableExpansion();
+        assertEquals("${my.prop}", config.getConfigValue("expression", withoutExpansion).getValue());
+        assertEquals("1234", config.getConfigValue("my.prop", withoutExpansion).getValue());
+        assertEquals("1234", config.getConfigValue("expression", LookupOptions.DEFAULT).getValue());
+        Expressions.withoutExpansion(
+                () -> assertEquals("${my.prop}", config.getConfigValue("expression", LookupOptions.DEFAULT).getValue()));
+    }
+
     @Test
     void escape() {
         assertEquals("${my.prop}", buildConfig("expression", "$${my.prop}").getRawValue("expression"));
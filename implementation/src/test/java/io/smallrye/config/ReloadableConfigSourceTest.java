@@ -0,0 +1,158 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.SmallRyeConfig.SMALLRYE_CONFIG_LOCATIONS;
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ReloadableConfigSourceTest {
+    @Test
+    void publish() {
+        MapBackedReloadableConfigSource source = new MapBackedReloadableConfigSource("reloadable",
+                singletonMap("my.prop", "1234"));
+        SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).build();
+        List<Set<String>> changes = new ArrayList<>();
+        config.addChangeListener(changes::add);
+
+        assertEquals(0, config.getVersion());
+        assertEquals("1234", config.getRawValue("my.prop"));
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put("my.prop", "5678");
+        properties.put("my.other", "value");
+        source.publish(properties);
+
+        assertEquals(1, config.getVersion());
+        assertEquals("5678", config.getRawValue("my.prop"));
+        assertEquals("value", config.getRawValue("my.other"));
+        assertEquals(1, changes.size());
+        assertEquals(new HashSet<>(Arrays.asList("my.prop", "my.other")), changes.get(0));
+
+        // same contents
+        source.publish(properties);
+        assertEquals(1, config.getVersion());
+        assertEquals(1, changes.size());
+
+        source.publish(singletonMap("my.prop", "5678"));
+        assertEquals(2, config.getVersion());
+        assertNull(config.getRawValue("my.other"));
+        assertEquals(singletonMap("my.other", null).keySet(), changes.get(1));
+    }
+
+    @Test
+    void handle() {
+        MapBackedReloadableConfigSource source = new MapBackedReloadableConfigSource("reloadable",
+                singletonMap("my.prop", "1234"));
+        SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).build();
+
+        ConfigPropertyHandle<Integer> handle = config.handle("my.prop", Integer.class);
+        assertEquals(1234, handle.get());
+
+        source.publish(singletonMap("my.prop", "5678"));
+        assertEquals(5678, handle.get());
+
+        source.publish(new HashMap<>());
+        assertFalse(handle.getOptional().isPresent());
+    }
+
+    @Test
+    void mapping() {
+        MapBackedReloadableConfigSource source = new MapBackedReloadableConfigSource("reloadable",
+                singletonMap("server.port", "8080"));
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source)
+                .withMapping(Server.class)
+                .build();
+
+        Server server = config.getConfigMapping(Server.class);
+        assertEquals(8080, server.port());
+
+        source.publish(singletonMap("server.port", "9090"));
+        Server reloaded = config.getConfigMapping(Server.class);
+        assertNotSame(server, reloaded);
+        assertEquals(9090, reloaded.port());
+
+        // the new values are rejected when they fail to map
+        long version = config.getVersion();
+        assertThrows(IllegalStateException.class, () -> source.publish(new HashMap<>()));
+        assertEquals("9090", config.getRawValue("server.port"));
+        assertEquals(9090, config.getConfigMapping(Server.class).port());
+        assertEquals(version, config.getVersion());
+    }
+
+    @Test
+    void listenerReloads() throws Exception {
+        MapBackedReloadableConfigSource source = new MapBackedReloadableConfigSource("reloadable",
+                singletonMap("my.prop", "1234"));
+        SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).build();
+        List<Set<String>> changes = new CopyOnWriteArrayList<>();
+        config.addChangeListener(names -> {
+            changes.add(names);
+            if (changes.size() == 1) {
+                // a listener reloading the configuration from another thread does not deadlock
+                CompletableFuture.runAsync(() -> source.publish(singletonMap("my.prop", "9012"))).join();
+            }
+        });
+
+        source.publish(singletonMap("my.prop", "5678"));
+        assertEquals(2, changes.size());
+        assertEquals("9012", config.getRawValue("my.prop"));
+        assertEquals(2, config.getVersion());
+    }
+
+    @Test
+    void reload(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("config.properties");
+        Files.write(file, Arrays.asList("server.port=8080", "my.prop=1234"));
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDiscoveredSources()
+                .withDefaultValue(SMALLRYE_CONFIG_LOCATIONS, file.toUri().toString())
+                .withMapping(Server.class)
+                .build();
+        List<Set<String>> changes = new ArrayList<>();
+        config.addChangeListener(changes::add);
+
+        assertEquals(8080, config.getConfigMapping(Server.class).port());
+        assertEquals("1234", config.getRawValue("my.prop"));
+
+        Files.write(file, Arrays.asList("server.port=9090", "my.prop=1234"));
+        config.reload();
+
+        assertEquals(1, config.getVersion());
+        assertEquals(9090, config.getConfigMapping(Server.class).port());
+        assertEquals(1, changes.size());
+        assertTrue(changes.get(0).contains("server.port"));
+        assertFalse(changes.get(0).contains("my.prop"));
+
+        Files.write(file, Arrays.asList("my.prop=5678"));
+        assertThrows(IllegalStateException.class, config::reload);
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals(9090, config.getConfigMapping(Server.class).port());
+        assertEquals(1, changes.size());
+    }
+
+    @ConfigMapping(prefix = "server")
+    interface Server {
+        int port();
+    }
+}
@@ -55,6 +55,19 @@ class SecretKeysTest {
         });
     }
 
+    @Test
+    void unlockLookupOptions() {
+        final SmallRyeConfig config = buildConfig("secret", "12345678", "not.secret", "value").unwrap(SmallRyeConfig.class);
+
+        assertEquals("12345678", config.getConfigValue("secret", LookupOptions.DEFAULT.unlockSecrets()).getValue());
+        assertEquals("value", config.getConfigValue("not.secret", LookupOptions.DEFAULT.unlockSecrets()).getValue());
+        assertThrows(SecurityException.class, () -> config.getConfigValue("secret", LookupOptions.DEFAULT));
+        assertEquals("12345678",
+                SecretKeys.doUnlocked(() -> config.getConfigValue("secret", LookupOptions.DEFAULT).getValue()));
+        assertThrows(SecurityException.class,
+                () -> config.getConfigValue("secret", LookupOptions.DEFAULT.unlockSecrets().lockSecrets()));
+    }
+
     private static Config buildConfig(String... keyValues) {
         return new SmallRyeConfigBuilder()
                 .addDefaultSources()
@@ -0,0 +1,126 @@
+package io.smallrye.config;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.Config;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SmallRyeConfigProviderResolverTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void registerAndRelease() {
+        SmallRyeConfigProviderResolver resolver = new SmallRyeConfigProviderResolver();
+        ClassLoader classLoader = new URLClassLoader(new URL[0], null);
+        SmallRyeConfig config = new SmallRyeConfigBuilder().build();
+
+        resolver.registerConfig(config, classLoader);
+        assertSame(config, resolver.getConfig(classLoader));
+        assertThrows(IllegalStateException.class, () -> resolver.registerConfig(config, classLoader));
+
+        resolver.releaseConfig(config);
+        Config created = resolver.getConfig(classLoader);
+        assertNotSame(config, created);
+        assertSame(created, resolver.getConfig(classLoader));
+    }
+
+    @Test
+    void weakClassLoaders() throws Exception {
+        SmallRyeConfigProviderResolver resolver = new SmallRyeConfigProviderResolver();
+        ClassLoader classLoader = new URLClassLoader(new URL[0], null);
+        resolver.registerConfig(new SmallRyeConfigBuilder().build(), classLoader);
+
+        WeakReference<ClassLoader> reference = new WeakReference<>(classLoader);
+        classLoader = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+    }
+
+    @Test
+    void concurrentClassLoaders() throws Exception {
+        Path services = tempDir.resolve("META-INF/services");
+        Files.createDirectories(services);
+        Files.write(services.resolve(SmallRyeConfigFactory.class.getName()),
+                BlockingConfigFactory.class.getName().getBytes(UTF_8));
+
+        SmallRyeConfigProviderResolver resolver = new SmallRyeConfigProviderResolver();
+        ClassLoader blocked = new URLClassLoader(new URL[] { tempDir.toUri().toURL() },
+                SmallRyeConfigProviderResolverTest.class.getClassLoader());
+        ClassLoader other = new URLClassLoader(new URL[0], null);
+
+        CompletableFuture<Config> creating = CompletableFuture.supplyAsync(() -> resolver.getConfig(blocked));
+        try {
+            assertTrue(BlockingConfigFactory.STARTED.await(10, TimeUnit.SECONDS));
+            // the creation of the config of a ClassLoader does not block the others
+            Config otherConfig = CompletableFuture.supplyAsync(() -> resolver.getConfig(other)).get(10, TimeUnit.SECONDS);
+            assertSame(otherConfig, resolver.getConfig(other));
+        } finally {
+            BlockingConfigFactory.RELEASE.countDown();
+        }
+
+        Config config = creating.get(10, TimeUnit.SECONDS);
+        assertSame(config, resolver.getConfig(blocked));
+        assertEquals(1, BlockingConfigFactory.CREATED.getCount());
+    }
+
+    @Test
+    void singleConfig() {
+        SmallRyeConfigProviderResolver resolver = new SmallRyeConfigProviderResolver(true);
+        ClassLoader classLoader = new URLClassLoader(new URL[0], null);
+        ClassLoader other = new URLClassLoader(new URL[0], null);
+        SmallRyeConfig config = new SmallRyeConfigBuilder().build();
+
+        resolver.registerConfig(config, classLoader);
+        assertSame(config, resolver.getConfig());
+        assertSame(config, resolver.getConfig(other));
+
+        // a second config turns off the single config
+        SmallRyeConfig otherConfig = new SmallRyeConfigBuilder().build();
+        resolver.registerConfig(otherConfig, other);
+        assertSame(config, resolver.getConfig(classLoader));
+        assertSame(otherConfig, resolver.getConfig(other));
+
+        resolver.releaseConfig(config);
+        assertSame(otherConfig, resolver.getConfig());
+        assertSame(otherConfig, resolver.getConfig(classLoader));
+    }
+
+    public static class BlockingConfigFactory extends SmallRyeConfigFactory {
+        static final CountDownLatch STARTED = new CountDownLatch(1);
+        static final CountDownLatch RELEASE = new CountDownLatch(1);
+        static final CountDownLatch CREATED = new CountDownLatch(2);
+
+        @Override
+        public SmallRyeConfig getConfigFor(final SmallRyeConfigProviderResolver configProviderResolver,
+                final ClassLoader classLoader) {
+            STARTED.countDown();
+            try {
+                RELEASE.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            CREATED.countDown();
+            return new SmallRyeConfigBuilder().build();
+        }
+    }
+}
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -15,6 +16,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
@@ -239,6 +241,55 @@ class SmallRyeConfigTest {
         assertEquals("perf", values.get(3));
     }
 
+    @Test
+    void getConfigValues() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.prop", "1234", "%prof.my.prop", "5678", "my.expression", "${my.prop}",
+                        "my.empty", ""))
+                .withProfile("prof")
+                .addDefaultInterceptors()
+                .build();
+
+        Map<String, ConfigValue> values = config.getConfigValues(
+                Arrays.asList("my.expression", "my.prop", "my.missing", "my.prop", "my.empty"));
+        assertEquals(Arrays.asList("my.expression", "my.prop", "my.missing", "my.empty"), new ArrayList<>(values.keySet()));
+        assertEquals("5678", values.get("my.expression").getValue());
+        assertEquals("5678", values.get("my.prop").getValue());
+        assertEquals("KeyValuesConfigSource", values.get("my.prop").getConfigSourceName());
+        assertEquals("my.missing", values.get("my.missing").getName());
+        assertNull(values.get("my.missing").getValue());
+        assertEquals(config.getConfigValue("my.empty"), values.get("my.empty"));
+    }
+
+    @Test
+    void getIndexedConfigValues() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config(
+                        "server.environments[10]", "perf",
+                        "server.environments[2]", "prod",
+                        "server.environments[0]", "dev",
+                        "%qa.server.environments[1]", "qa",
+                        "server.environments[1]", "test",
+                        "server.environments.name", "name",
+                        "server.environments[x]", "invalid"))
+                .withProfile("qa")
+                .addDefaultInterceptors()
+                .build();
+
+        List<ConfigValue> values = config.getIndexedConfigValues("server.environments");
+        assertEquals(4, values.size());
+        assertEquals("server.environments[0]", values.get(0).getName());
+        assertEquals("dev", values.get(0).getValue());
+        assertEquals("server.environments[1]", values.get(1).getName());
+        assertEquals("qa", values.get(1).getValue());
+        assertEquals("prod", values.get(2).getValue());
+        assertEquals("server.environments[10]", values.get(3).getName());
+        assertEquals("perf", values.get(3).getValue());
+        assertTrue(config.getIndexedConfigValues("server.missing").isEmpty());
+
+        assertEquals(Arrays.asList("dev", "qa", "prod", "perf"), config.getValues("server.environments", String.class));
+    }
+
     @Test
     void isPropertyPresent() {
         SmallRyeConfig config = new SmallRyeConfigBuilder()
@@ -307,4 +358,75 @@ class SmallRyeConfigTest {
         assertFalse(config.getConfigSource("something").isPresent());
         assertFalse(config.getConfigSource(null).isPresent());
     }
+
+    @Test
+    void primitiveValues() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.int", " 8080 ", "my.long", "9999999999", "my.double", "1.5", "my.boolean", "yes",
+                        "my.empty", "", "my.invalid", "invalid"))
+                .build();
+
+        assertEquals(8080, config.getIntValue("my.int"));
+        assertEquals(8080, config.getIntValue("my.int", 1));
+        assertEquals(1, config.getIntValue("my.missing", 1));
+        assertEquals(1, config.getIntValue("my.empty", 1));
+        assertEquals(9999999999L, config.getLongValue("my.long"));
+        assertEquals(1L, config.getLongValue("my.missing", 1L));
+        assertEquals(1.5d, config.getDoubleValue("my.double"));
+        assertEquals(2.5d, config.getDoubleValue("my.missing", 2.5d));
+        assertTrue(config.getBooleanValue("my.boolean"));
+        assertTrue(config.getBooleanValue("my.missing", true));
+        assertFalse(config.getBooleanValue("my.invalid", true));
+
+        assertThrows(NoSuchElementException.class, () -> config.getIntValue("my.missing"));
+        assertThrows(NoSuchElementException.class, () -> config.getLongValue("my.empty"));
+        assertThrows(IllegalArgumentException.class, () -> config.getIntValue("my.invalid"));
+        assertThrows(IllegalArgumentException.class, () -> config.getDoubleValue("my.invalid", 1.0d));
+    }
+
+    @Test
+    void primitiveValuesCustomConverter() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.int", "one"))
+                .withConverter(Integer.class, 1000, value -> "one".equals(value) ? 1 : Integer.valueOf(value))
+                .build();
+
+        assertEquals(1, config.getIntValue("my.int"));
+        assertEquals(1, config.getIntValue("my.int", 2));
+    }
+
+    @Test
+    void handle() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.prop", "1234", "my.list", "1,2", "my.empty", "", "my.invalid", "invalid"))
+                .build();
+
+        ConfigPropertyHandle<Integer> handle = config.handle("my.prop", Integer.class);
+        assertEquals("my.prop", handle.getName());
+        assertEquals(1234, handle.get());
+        assertEquals(1234, handle.getOptional().get());
+        assertEquals("1234", handle.getConfigValue().getValue());
+        assertEquals("KeyValuesConfigSource", handle.getConfigValue().getConfigSourceName());
+        assertSame(handle.get(), handle.get());
+
+        ConfigPropertyHandle<List<Integer>> list = config.handle("my.list",
+                Converters.newCollectionConverter(config.requireConverter(Integer.class), ArrayList::new));
+        assertEquals(Arrays.asList(1, 2), list.get());
+
+        ConfigPropertyHandle<Integer> missing = config.handle("my.missing", Integer.class);
+        assertThrows(NoSuchElementException.class, missing::get);
+        assertFalse(missing.getOptional().isPresent());
+        assertNull(missing.getConfigValue().getValue());
+
+        ConfigPropertyHandle<Integer> empty = config.handle("my.empty", Integer.class);
+        assertThrows(NoSuchElementException.class, empty::get);
+        assertFalse(empty.getOptional().isPresent());
+
+        ConfigPropertyHandle<Integer> invalid = config.handle("my.invalid", Integer.class);
+        assertThrows(IllegalArgumentException.class, invalid::get);
+        assertThrows(IllegalArgumentException.class, invalid::getOptional);
+
+        ConfigPropertyHandle<ConfigValue> configValue = config.handle("my.prop", ConfigValue.class);
+        assertEquals("1234", configValue.get().getValue());
+    }
 }
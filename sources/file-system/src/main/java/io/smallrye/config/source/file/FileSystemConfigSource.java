@@ -78,7 +78,7 @@ public class FileSystemConfigSource extends MapBackedConfigSource {
         super("FileSystemConfigSource[dir=" + dir.getAbsolutePath() + "]", scan(dir), ordinal);
     }
 
-    private static Map<String, String> scan(File directory) {
+    static Map<String, String> scan(File directory) {
         if (directory != null && directory.isDirectory()) {
             try (Stream<Path> stream = Files.walk(directory.toPath(), 1)) {
 
@@ -91,7 +91,7 @@ public class FileSystemConfigSource extends MapBackedConfigSource {
         return Collections.emptyMap();
     }
 
-    private static String readContent(Path file) {
+    static String readContent(Path file) {
         try (Stream<String> stream = Files.lines(file)) {
             return stream.collect(Collectors.joining());
         } catch (IOException e) {
@@ -101,12 +101,14 @@ public class FileSystemConfigSource extends MapBackedConfigSource {
 
     @Override
     public String getValue(String name) {
+        return getValue(getProperties(), name);
+    }
+
+    static String getValue(Map<String, String> properties, String name) {
         if (name == null) {
             return null;
         }
 
-        final Map<String, String> properties = getProperties();
-
         // exact match
         String value = properties.get(name);
         if (value != null) {
@@ -16,6 +16,7 @@ import io.smallrye.config.Converters;
 
 public class FileSystemConfigSourceFactory implements ConfigSourceFactory {
     public static final String SMALLRYE_CONFIG_SOURCE_FILE_LOCATIONS = "smallrye.config.source.file.locations";
+    public static final String SMALLRYE_CONFIG_SOURCE_FILE_WATCH = "smallrye.config.source.file.watch";
 
     @Override
     public Iterable<ConfigSource> getConfigSources(final ConfigSourceContext context) {
@@ -24,10 +25,15 @@ public class FileSystemConfigSourceFactory implements ConfigSourceFactory {
             return Collections.emptyList();
         }
 
+        final ConfigValue watch = context.getValue(SMALLRYE_CONFIG_SOURCE_FILE_WATCH);
+        final boolean watchLocations = watch != null && watch.getValue() != null
+                && Converters.getImplicitConverter(Boolean.class).convert(watch.getValue());
+
         return Stream
                 .of(newArrayConverter(Converters.getImplicitConverter(String.class), String[].class)
                         .convert(value.getValue()))
-                .map(location -> new FileSystemConfigSource(location))
+                .map(location -> watchLocations ? new WatchingFileSystemConfigSource(location)
+                        : new FileSystemConfigSource(location))
                 .collect(Collectors.toList());
     }
 
@@ -2,6 +2,7 @@ package io.smallrye.config.source.file;
 
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
@@ -13,4 +14,12 @@ interface FileSystemLogging extends BasicLogger {
     @LogMessage(level = Logger.Level.WARN)
     @Message(id = 3000, value = "Unable to read content from file %s. Exception: %s")
     void failedToReadFileContent(String file, String cause);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 3001, value = "Unable to watch directory %s for changes. Exception: %s")
+    void failedToWatchDirectory(String directory, String cause);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 3002, value = "Unable to publish the changes of %s")
+    void failedToPublishChanges(String source, @Cause Throwable cause);
 }
@@ -0,0 +1,222 @@
+package io.smallrye.config.source.file;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.config.MapBackedReloadableConfigSource;
+import io.smallrye.config.common.utils.ConfigSourceUtil;
+
+/**
+ * Read configuration from a file directory, like {@link FileSystemConfigSource}, and keep watching the directory for
+ * changes.
+ * <p>
+ * The directory is watched with a {@link WatchService}. When files are created, modified or deleted, only these files
+ * are read again, and the new contents are published to the registered
+ * {@link io.smallrye.config.ConfigChangeListener}. Events are debounced: the changes are published once no new event
+ * is received during the debounce period, so a burst of events results in a single change.
+ * <p>
+ * A Kubernetes ConfigMap or Secret mounted as a volume is updated by replacing the {@code ..data} symlink, which the
+ * visible files link to. A change to an entry which name starts with {@code ..} reads the whole directory again.
+ * <p>
+ * The directory is watched by a daemon thread, which stops when the source is closed or is not referenced anymore.
+ */
+@Experimental("Watch a file directory for configuration changes")
+public class WatchingFileSystemConfigSource extends MapBackedReloadableConfigSource implements Closeable {
+    private static final long serialVersionUID = -4471282392627546017L;
+
+    static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(100);
+
+    private final File dir;
+    private final transient WatchService watchService;
+
+    public WatchingFileSystemConfigSource(File dir) {
+        this(dir, DEFAULT_ORDINAL);
+    }
+
+    public WatchingFileSystemConfigSource(String dir) {
+        this(new File(dir), DEFAULT_ORDINAL);
+    }
+
+    public WatchingFileSystemConfigSource(File dir, int ordinal) {
+        this(dir, ordinal, DEFAULT_DEBOUNCE);
+    }
+
+    /**
+     * Construct a new instance
+     *
+     * @param dir the directory, containing configuration files
+     * @param ordinal the ordinal value
+     * @param debounce the period without events to wait for, before the changes are published
+     */
+    public WatchingFileSystemConfigSource(File dir, int ordinal, Duration debounce) {
+        this(dir, FileSystemConfigSource.scan(dir), ordinal, debounce);
+    }
+
+    private WatchingFileSystemConfigSource(File dir, Map<String, String> properties, int ordinal, Duration debounce) {
+        super("WatchingFileSystemConfigSource[dir=" + dir.getAbsolutePath() + "]", properties,
+                ConfigSourceUtil.getOrdinalFromMap(properties, ordinal));
+        this.dir = dir;
+        this.watchService = watch(dir);
+        if (watchService != null) {
+            final Thread thread = new Thread(new Watcher(this, watchService, debounce), getName());
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    @Override
+    public String getValue(String name) {
+        return FileSystemConfigSource.getValue(getProperties(), name);
+    }
+
+    /**
+     * Stop watching the directory. The source keeps the last published contents.
+     */
+    @Override
+    public void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    void update(Set<String> fileNames, boolean rescan) {
+        if (rescan || fileNames.stream().anyMatch(fileName -> fileName.startsWith(".."))) {
+            publish(FileSystemConfigSource.scan(dir));
+            return;
+        }
+
+        final Map<String, String> properties = new HashMap<>(getProperties());
+        for (String fileName : fileNames) {
+            final Path file = dir.toPath().resolve(fileName);
+            if (Files.isRegularFile(file)) {
+                try {
+                    properties.put(fileName, FileSystemConfigSource.readContent(file));
+                } catch (UncheckedIOException e) {
+                    FileSystemLogging.log.failedToReadFileContent(file.toString(), e.getLocalizedMessage());
+                    properties.remove(fileName);
+                }
+            } else {
+                properties.remove(fileName);
+            }
+        }
+        publish(properties);
+    }
+
+    private static WatchService watch(File dir) {
+        if (!dir.isDirectory()) {
+            return null;
+        }
+
+        WatchService watchService = null;
+        try {
+            watchService = dir.toPath().getFileSystem().newWatchService();
+            dir.toPath().register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+            return watchService;
+        } catch (IOException e) {
+            FileSystemLogging.log.failedToWatchDirectory(dir.getAbsolutePath(), e.getLocalizedMessage());
+            if (watchService != null) {
+                try {
+                    watchService.close();
+                } catch (IOException ignored) {
+                    // the watch service is not used
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Collects the events of the watched directory and publishes the changes to the source. Only keeps a weak
+     * reference to the source, so an unreferenced source can be collected, which also stops the watcher.
+     */
+    private static final class Watcher implements Runnable {
+        private static final long REFERENCE_CHECK_MILLIS = 1000;
+
+        private final WeakReference<WatchingFileSystemConfigSource> source;
+        private final WatchService watchService;
+        private final long debounceMillis;
+
+        Watcher(final WatchingFileSystemConfigSource source, final WatchService watchService, final Duration debounce) {
+            this.source = new WeakReference<>(source);
+            this.watchService = watchService;
+            this.debounceMillis = debounce.toMillis();
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (;;) {
+                    WatchKey key = watchService.poll(REFERENCE_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+                    if (key == null) {
+                        if (source.get() == null) {
+                            watchService.close();
+                            return;
+                        }
+                        continue;
+                    }
+
+                    final Set<String> fileNames = new HashSet<>();
+                    boolean rescan = false;
+                    // Debounce, until no event is received during the debounce period
+                    while (key != null) {
+                        rescan |= collect(key, fileNames);
+                        key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+                    }
+
+                    final WatchingFileSystemConfigSource source = this.source.get();
+                    if (source == null) {
+                        watchService.close();
+                        return;
+                    }
+                    try {
+                        source.update(fileNames, rescan);
+                    } catch (RuntimeException e) {
+                        FileSystemLogging.log.failedToPublishChanges(source.getName(), e);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ClosedWatchServiceException | IOException e) {
+                // the source was closed
+            }
+        }
+
+        private static boolean collect(final WatchKey key, final Set<String> fileNames) {
+            boolean overflow = false;
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW) {
+                    overflow = true;
+                } else {
+                    fileNames.add(event.context().toString());
+                }
+            }
+            key.reset();
+            return overflow;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.smallrye.config.source.file;
+
+import static io.smallrye.config.source.file.FileSystemConfigSourceFactory.SMALLRYE_CONFIG_SOURCE_FILE_LOCATIONS;
+import static io.smallrye.config.source.file.FileSystemConfigSourceFactory.SMALLRYE_CONFIG_SOURCE_FILE_WATCH;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+class WatchingFileSystemConfigSourceTest {
+    @Test
+    void watch(@TempDir Path dir) throws Exception {
+        Files.write(dir.resolve("my.prop"), singletonList("1234"));
+        Files.write(dir.resolve("my.other"), singletonList("value"));
+
+        try (WatchingFileSystemConfigSource source = new WatchingFileSystemConfigSource(dir.toFile(), 100,
+                Duration.ofMillis(50))) {
+            BlockingQueue<Set<String>> changes = new LinkedBlockingQueue<>();
+            source.addChangeListener(changes::add);
+
+            assertEquals("1234", source.getValue("my.prop"));
+            assertEquals("value", source.getValue("my.other"));
+
+            Files.write(dir.resolve("my.prop"), singletonList("5678"));
+            assertEquals("my.prop", String.join(",", poll(changes)));
+            assertEquals("5678", source.getValue("my.prop"));
+            assertEquals("value", source.getValue("my.other"));
+
+            Files.delete(dir.resolve("my.other"));
+            assertEquals("my.other", String.join(",", poll(changes)));
+            assertNull(source.getValue("my.other"));
+        }
+    }
+
+    @Test
+    void configMapSymlinkSwap(@TempDir Path dir) throws Exception {
+        // layout of a Kubernetes ConfigMap volume: my.prop -> ..data/my.prop and ..data -> ..v1
+        Path v1 = Files.createDirectory(dir.resolve("..v1"));
+        Files.write(v1.resolve("my.prop"), singletonList("1234"));
+        Files.createSymbolicLink(dir.resolve("..data"), v1.getFileName());
+        Files.createSymbolicLink(dir.resolve("my.prop"), dir.getFileSystem().getPath("..data", "my.prop"));
+
+        try (WatchingFileSystemConfigSource source = new WatchingFileSystemConfigSource(dir.toFile(), 100,
+                Duration.ofMillis(50))) {
+            BlockingQueue<Set<String>> changes = new LinkedBlockingQueue<>();
+            source.addChangeListener(changes::add);
+            assertEquals("1234", source.getValue("my.prop"));
+
+            Path v2 = Files.createDirectory(dir.resolve("..v2"));
+            Files.write(v2.resolve("my.prop"), singletonList("5678"));
+            Files.createSymbolicLink(dir.resolve("..data_tmp"), v2.getFileName());
+            Files.move(dir.resolve("..data_tmp"), dir.resolve("..data"), StandardCopyOption.ATOMIC_MOVE);
+
+            assertEquals("my.prop", String.join(",", poll(changes)));
+            assertEquals("5678", source.getValue("my.prop"));
+        }
+    }
+
+    @Test
+    void factory(@TempDir Path dir) throws Exception {
+        Files.write(dir.resolve("my.prop"), singletonList("1234"));
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDiscoveredSources()
+                .withDefaultValue(SMALLRYE_CONFIG_SOURCE_FILE_LOCATIONS, dir.toString())
+                .withDefaultValue(SMALLRYE_CONFIG_SOURCE_FILE_WATCH, "true")
+                .build();
+        BlockingQueue<Set<String>> changes = new LinkedBlockingQueue<>();
+        config.addChangeListener(changes::add);
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertTrue(config.getConfigSource(
+                "WatchingFileSystemConfigSource[dir=" + dir.toFile().getAbsolutePath() + "]").isPresent());
+
+        Files.write(dir.resolve("my.prop"), singletonList("5678"));
+        assertEquals("my.prop", String.join(",", poll(changes)));
+        assertEquals("5678", config.getRawValue("my.prop"));
+        assertEquals(1, config.getVersion());
+    }
+
+    private static Set<String> poll(BlockingQueue<Set<String>> changes) throws InterruptedException {
+        Set<String> change = changes.poll(10, TimeUnit.SECONDS);
+        if (change == null) {
+            throw new AssertionError("No change received");
+        }
+        return change;
+    }
+}
@@ -7,10 +7,8 @@ import java.io.Reader;
 import java.io.UncheckedIOException;
 import java.net.URL;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeMap;
-import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
 
@@ -18,6 +16,7 @@ import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigList;
 import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigUtil;
 import com.typesafe.config.ConfigValue;
 
 import io.smallrye.common.classloader.ClassPathUtils;
@@ -30,8 +29,7 @@ public class HoconConfigSource extends MapBackedConfigSource {
 
     @Deprecated
     public HoconConfigSource(Config config, String source, int ordinal) {
-        super("HoconConfigSource[source=" + source + "]", Collections.unmodifiableMap(config.entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, entry -> config.getString(entry.getKey())))), ordinal);
+        super("HoconConfigSource[source=" + source + "]", Collections.unmodifiableMap(configToMap(config)), ordinal);
     }
 
     public HoconConfigSource(String name, Map<String, String> source, int ordinal) {
@@ -53,42 +51,76 @@ public class HoconConfigSource extends MapBackedConfigSource {
     }
 
     private static Map<String, String> streamToMap(InputStream inputStream) throws IOException {
-        final Map<String, String> input = new TreeMap<>();
         try (Reader reader = new InputStreamReader(inputStream)) {
-            Config config = ConfigFactory.parseReader(reader);
-            input.putAll(configToMap(config));
+            return configToMap(ConfigFactory.parseReader(reader));
         }
-        return input;
     }
 
+    /**
+     * Converts the {@link Config} to properties, walking the tree of values once. Objects are joined with the path
+     * separator and list elements are written with indexed keys, directly into the properties, with a single name
+     * buffer for all the values.
+     *
+     * @param config the {@link Config} to convert
+     * @return the properties of the {@link Config}
+     */
     private static Map<String, String> configToMap(Config config) {
-        final Map<String, String> properties = new TreeMap<>();
-        final Set<Map.Entry<String, ConfigValue>> entries = config.entrySet();
-        for (Map.Entry<String, ConfigValue> entry : entries) {
-            flatten(entry.getKey(), entry.getValue(), properties);
-        }
+        final Map<String, String> properties = new HashMap<>();
+        flattenObject(new StringBuilder(), config.root(), properties);
         return properties;
     }
 
-    private static void flatten(String path, ConfigValue value, Map<String, String> target) {
-        if (value instanceof ConfigObject) {
-            flattenObject(path, (ConfigObject) value, target);
-        } else if (value instanceof ConfigList) {
-            flattenList(path, (ConfigList) value, target);
-        } else {
-            target.put(path, value.unwrapped().toString());
+    private static void flatten(StringBuilder path, ConfigValue value, Map<String, String> target) {
+        switch (value.valueType()) {
+            case OBJECT:
+                flattenObject(path, (ConfigObject) value, target);
+                break;
+            case LIST:
+                flattenList(path, (ConfigList) value, target);
+                break;
+            case NULL:
+                break;
+            default:
+                target.put(path.toString(), value.unwrapped().toString());
         }
     }
 
-    private static void flattenObject(String path, ConfigObject value, Map<String, String> target) {
+    private static void flattenObject(StringBuilder path, ConfigObject value, Map<String, String> target) {
+        final int length = path.length();
         for (Map.Entry<String, ConfigValue> entry : value.entrySet()) {
-            flatten(path + "." + entry.getKey(), entry.getValue(), target);
+            if (length > 0) {
+                path.append('.');
+            }
+            appendKey(path, entry.getKey());
+            flatten(path, entry.getValue(), target);
+            path.setLength(length);
+        }
+    }
+
+    /**
+     * Appends the key as a path element, quoted if required, the same as the paths of {@link Config#entrySet()}.
+     */
+    private static void appendKey(StringBuilder path, String key) {
+        if (key.isEmpty()) {
+            path.append(ConfigUtil.joinPath(key));
+            return;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            final char c = key.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '-' && c != '_') {
+                path.append(ConfigUtil.joinPath(key));
+                return;
+            }
         }
+        path.append(key);
     }
 
-    private static void flattenList(String path, ConfigList value, Map<String, String> target) {
+    private static void flattenList(StringBuilder path, ConfigList value, Map<String, String> target) {
+        final int length = path.length();
         for (int i = 0, valueSize = value.size(); i < valueSize; i++) {
-            flatten(path + "[" + i + "]", value.get(i), target);
+            path.append('[').append(i).append(']');
+            flatten(path, value.get(i), target);
+            path.setLength(length);
         }
     }
 }
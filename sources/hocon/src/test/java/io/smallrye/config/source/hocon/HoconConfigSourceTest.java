@@ -11,6 +11,8 @@ import java.util.List;
 import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.junit.jupiter.api.Test;
 
+import com.typesafe.config.ConfigFactory;
+
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.SmallRyeConfig;
 import io.smallrye.config.SmallRyeConfigBuilder;
@@ -74,6 +76,20 @@ class HoconConfigSourceTest {
         }
     }
 
+    @Test
+    void flatten() {
+        HoconConfigSource source = new HoconConfigSource(ConfigFactory.parseString(
+                "a { b = 1, \"c.d\" = x, n = null, l = [1, { k = v }, [2, 3], null] }"), "string", HoconConfigSource.ORDINAL);
+
+        assertEquals("1", source.getValue("a.b"));
+        assertEquals("x", source.getValue("a.\"c.d\""));
+        assertFalse(source.getPropertyNames().contains("a.n"));
+        assertEquals("1", source.getValue("a.l[0]"));
+        assertEquals("v", source.getValue("a.l[1].k"));
+        assertEquals("3", source.getValue("a.l[2][1]"));
+        assertEquals(6, source.getPropertyNames().size());
+    }
+
     @Test
     void systemFile() {
         SmallRyeConfig config = buildConfig("./src/test/resources/list.conf");
@@ -1,27 +1,18 @@
 package io.smallrye.config.source.yaml;
 
-import static java.util.Collections.singletonMap;
-
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.io.UncheckedIOException;
 import java.net.URL;
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
-import org.yaml.snakeyaml.DumperOptions;
-import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.Constructor;
-import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.reader.UnicodeReader;
 
 import io.smallrye.common.classloader.ClassPathUtils;
 import io.smallrye.common.constraint.Assert;
@@ -38,20 +29,20 @@ public class YamlConfigSource extends MapBackedConfigSource {
 
     private static final String NAME_PREFIX = "YamlConfigSource[source=";
     private static final int ORDINAL = ConfigSource.DEFAULT_ORDINAL + 10;
-    private static final Yaml DUMPER;
-
-    static {
-        final DumperOptions dumperOptions = new DumperOptions();
-        dumperOptions.setDefaultFlowStyle(DumperOptions.FlowStyle.FLOW);
-        dumperOptions.setDefaultScalarStyle(DumperOptions.ScalarStyle.FOLDED);
-        DUMPER = new Yaml(dumperOptions);
-    }
 
     private final Set<String> propertyNames;
 
     public YamlConfigSource(String name, Map<String, String> source, int ordinal) {
+        this(name, source, ordinal, Collections.emptySet());
+    }
+
+    private YamlConfigSource(String name, YamlFlattener flattener, int ordinal) {
+        this(name, flattener.getProperties(), ordinal, flattener.getHiddenNames());
+    }
+
+    private YamlConfigSource(String name, Map<String, String> source, int ordinal, Set<String> hiddenNames) {
         super(name, source, ordinal, false);
-        this.propertyNames = filterPropertyNames(source);
+        this.propertyNames = filterPropertyNames(source, hiddenNames);
     }
 
     @Deprecated
@@ -65,9 +56,9 @@ public class YamlConfigSource extends MapBackedConfigSource {
 
     public YamlConfigSource(URL url, int ordinal) throws IOException {
         this(NAME_PREFIX + url.toString() + "]",
-                ClassPathUtils.readStream(url, (Function<InputStream, Map<String, String>>) inputStream -> {
+                ClassPathUtils.readStream(url, (Function<InputStream, YamlFlattener>) inputStream -> {
                     try {
-                        return streamToMap(inputStream);
+                        return flatten(inputStream);
                     } catch (IOException e) {
                         throw new UncheckedIOException(e);
                     }
@@ -76,7 +67,7 @@ public class YamlConfigSource extends MapBackedConfigSource {
 
     @Deprecated
     public YamlConfigSource(String name, InputStream stream, int defaultOrdinal) throws IOException {
-        this(name, streamToMap(stream), defaultOrdinal);
+        this(name, flatten(stream), defaultOrdinal);
     }
 
     public YamlConfigSource(String name, String source) {
@@ -84,7 +75,7 @@ public class YamlConfigSource extends MapBackedConfigSource {
     }
 
     public YamlConfigSource(String name, String source, int ordinal) {
-        this(name, stringToMap(source), ordinal);
+        this(name, flatten(source), ordinal);
     }
 
     @Override
@@ -92,17 +83,11 @@ public class YamlConfigSource extends MapBackedConfigSource {
         return propertyNames;
     }
 
-    @SuppressWarnings("unchecked")
-    private static Map<String, String> streamToMap(InputStream inputStream) throws IOException {
+    private static YamlFlattener flatten(InputStream inputStream) throws IOException {
         Assert.checkNotNullParam("inputStream", inputStream);
-        final Map<String, String> yamlInput = new TreeMap<>();
+        final YamlFlattener flattener = new YamlFlattener();
         try {
-            final Iterable<Object> objects = new Yaml(new StringConstructor()).loadAll(inputStream);
-            for (Object object : objects) {
-                if (object instanceof Map) {
-                    yamlInput.putAll(yamlInputToMap((Map<Object, Object>) object));
-                }
-            }
+            flattener.flatten(new UnicodeReader(inputStream));
             inputStream.close();
         } catch (Throwable t) {
             try {
@@ -112,124 +97,16 @@ public class YamlConfigSource extends MapBackedConfigSource {
             }
             throw t;
         }
-        return yamlInput;
-    }
-
-    @SuppressWarnings("unchecked")
-    private static Map<String, String> stringToMap(String str) {
-        final Map<Object, Object> yamlInput = new Yaml(new StringConstructor()).loadAs(str, HashMap.class);
-        return yamlInputToMap(yamlInput);
+        return flattener;
     }
 
-    private static Map<String, String> yamlInputToMap(final Map<Object, Object> yamlInput) {
-        final Map<String, String> properties = new TreeMap<>();
-        if (yamlInput != null) {
-            flattenYaml("", yamlInput, properties, false);
-        }
-        return properties;
+    private static YamlFlattener flatten(String str) {
+        return new YamlFlattener().flatten(new StringReader(str));
     }
 
-    @SuppressWarnings("unchecked")
-    private static void flattenYaml(String path, Map<Object, Object> source, Map<String, String> target, boolean indexed) {
-        source.forEach((originalKey, value) -> {
-            String key;
-            if (originalKey == null) {
-                key = "";
-            } else {
-                key = originalKey.toString();
-            }
-
-            if (key.contains(".")) {
-                key = "\"" + key + "\"";
-            }
-
-            if (!key.isEmpty() && path != null && !path.isEmpty()) {
-                key = indexed ? path + key : path + "." + key;
-            } else if (path != null && !path.isEmpty()) {
-                key = path;
-            }
-
-            if (value instanceof String) {
-                target.put(key, (String) value);
-            } else if (value instanceof Map) {
-                flattenYaml(key, (Map<Object, Object>) value, target, false);
-            } else if (value instanceof List) {
-                final List<Object> list = (List<Object>) value;
-                flattenList(key, list, target);
-                for (int i = 0; i < list.size(); i++) {
-                    flattenYaml(key, Collections.singletonMap("[" + i + "]", list.get(i)), target, true);
-                }
-            } else {
-                if (value != null) {
-                    target.put(key, value.toString());
-                }
-            }
-        });
-    }
-
-    private static void flattenList(String key, List<Object> source, Map<String, String> target) {
-        boolean mixed = false;
-        List<String> flatten = new ArrayList<>();
-        for (Object value : source) {
-            if (value instanceof String || value instanceof Boolean) {
-                flatten.add(value.toString());
-            } else if (value != null) {
-                mixed = true;
-                break;
-            }
-        }
-
-        if (!mixed) {
-            target.put(key, flatten.stream().map(value -> {
-                StringBuilder sb = new StringBuilder();
-                escapeCommas(sb, value, 1);
-                return sb.toString();
-            }).collect(Collectors.joining(",")));
-        } else {
-            // Mark keys for later removal
-            key = YamlConfigSource.class.getName() + ".filter." + key;
-            // This dumps the entire YAML in a parent property. It was added to support complex mappings, but it is not
-            // needed anymore with the indexed property support. We keep it for compatibility reasons.
-            target.put(key, DUMPER.dump(singletonMap(key.substring(key.lastIndexOf(".") + 1), source)));
-        }
-    }
-
-    private static void escapeCommas(StringBuilder b, String src, int escapeLevel) {
-        int cp;
-        for (int i = 0; i < src.length(); i += Character.charCount(cp)) {
-            cp = src.codePointAt(i);
-            if (cp == '\\' || cp == ',') {
-                for (int j = 0; j < escapeLevel; j++) {
-                    b.append('\\');
-                }
-            }
-            b.appendCodePoint(cp);
-        }
-    }
-
-    private static Set<String> filterPropertyNames(Map<String, String> source) {
-        final Set<String> filteredKeys = new HashSet<>();
-        for (final String key : new HashSet<>(source.keySet())) {
-            if (key.startsWith(YamlConfigSource.class.getName() + ".filter.")) {
-                String originalKey = key.substring(55);
-                source.put(originalKey, source.remove(key));
-            } else {
-                filteredKeys.add(key);
-            }
-        }
+    private static Set<String> filterPropertyNames(Map<String, String> source, Set<String> hiddenNames) {
+        final Set<String> filteredKeys = new HashSet<>(source.keySet());
+        filteredKeys.removeAll(hiddenNames);
         return filteredKeys;
     }
-
-    /**
-     * Override some of the yaml constructors, so that the value written in the flatten result is more alike with the
-     * source. For instance, timestamps may be written in a completely different format which prevents converters to
-     * convert the correct value.
-     */
-    private static class StringConstructor extends Constructor {
-        public StringConstructor() {
-            this.yamlConstructors.put(Tag.INT, new ConstructYamlStr());
-            this.yamlConstructors.put(Tag.FLOAT, new ConstructYamlStr());
-            this.yamlConstructors.put(Tag.TIMESTAMP, new ConstructYamlStr());
-        }
-    }
 }
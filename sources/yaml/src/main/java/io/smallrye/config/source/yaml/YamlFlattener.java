@@ -0,0 +1,387 @@
+package io.smallrye.config.source.yaml;
+
+import static java.util.Collections.singletonMap;
+
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+/**
+ * Flattens YAML documents into configuration properties, from the SnakeYAML parse events. The dotted property names
+ * are written directly into the target map, in a single pass, without loading the documents into an object graph.
+ * <p>
+ *
+ * Anchors are recorded as events and replayed on each alias, and merge keys are applied when the enclosing mapping
+ * ends, so that the keys of the mapping take precedence over the merged keys. Scalars are kept as written in the
+ * document, except for nulls, which are skipped, and booleans, which are normalized to {@code true} or {@code false}.
+ * <p>
+ *
+ * The only part that is still materialized is a list containing maps or lists, which is also dumped as YAML in the
+ * list property for compatibility. These properties are not included in the property names.
+ */
+final class YamlFlattener {
+    private static final Resolver RESOLVER = new Resolver();
+    private static final Yaml DUMPER;
+    /**
+     * The maximum number of aliases to collections, the same default as SnakeYAML, to prevent the expansion of
+     * aliases to take over the process.
+     */
+    private static final int MAX_ALIASES_FOR_COLLECTIONS = 50;
+
+    static {
+        final DumperOptions dumperOptions = new DumperOptions();
+        dumperOptions.setDefaultFlowStyle(DumperOptions.FlowStyle.FLOW);
+        dumperOptions.setDefaultScalarStyle(DumperOptions.ScalarStyle.FOLDED);
+        DUMPER = new Yaml(dumperOptions);
+    }
+
+    private final Map<String, String> properties = new HashMap<>();
+    private final Set<String> hiddenNames = new HashSet<>();
+
+    private final Map<String, List<Event>> anchors = new HashMap<>();
+    private final Deque<Iterator<Event>> replay = new ArrayDeque<>();
+    private List<List<Event>> recordings = new ArrayList<>();
+    private int aliases;
+    private Parser parser;
+
+    /**
+     * Flattens all the documents of the YAML stream. Keys of later documents override keys of earlier documents.
+     *
+     * @param reader the YAML stream
+     * @return this flattener
+     */
+    YamlFlattener flatten(final Reader reader) {
+        parser = new ParserImpl(new StreamReader(reader));
+        expect(parser.getEvent(), Event.ID.StreamStart);
+        for (Event event = parser.getEvent(); !event.is(Event.ID.StreamEnd); event = parser.getEvent()) {
+            expect(event, Event.ID.DocumentStart);
+            anchors.clear();
+            aliases = 0;
+            final Event root = next();
+            // only documents with a mapping at the root contain properties
+            node(root, root.is(Event.ID.MappingStart) ? "" : null, false);
+            expect(next(), Event.ID.DocumentEnd);
+        }
+        parser = null;
+        return this;
+    }
+
+    /**
+     * The flattened properties.
+     *
+     * @return the flattened properties
+     */
+    Map<String, String> getProperties() {
+        return properties;
+    }
+
+    /**
+     * The names of the properties that are not listed in the property names of the source.
+     *
+     * @return the names of the properties to exclude from the property names
+     */
+    Set<String> getHiddenNames() {
+        return hiddenNames;
+    }
+
+    /**
+     * Process a node, starting with the given event.
+     *
+     * @param event the first event of the node
+     * @param path the property name of the node, or {@code null} to not flatten the node
+     * @param capture {@code true} to construct and return the value of the node
+     * @return the value of the node if {@code capture} is {@code true}, the scalar value otherwise
+     */
+    private Object node(final Event event, final String path, final boolean capture) {
+        final String anchor = ((NodeEvent) event).getAnchor();
+        if (anchor == null) {
+            return value(event, path, capture);
+        }
+
+        final List<Event> recording = new ArrayList<>();
+        recording.add(event);
+        recordings.add(recording);
+        try {
+            return value(event, path, capture);
+        } finally {
+            recordings.remove(recordings.size() - 1);
+            anchors.put(anchor, recording);
+        }
+    }
+
+    private Object value(final Event event, final String path, final boolean capture) {
+        switch (event.getEventId()) {
+            case Scalar:
+                final Object value = scalar((ScalarEvent) event);
+                if (path != null && value != null) {
+                    put(path, value.toString());
+                }
+                return value;
+            case MappingStart:
+                return mapping(path, capture);
+            case SequenceStart:
+                return sequence(path, capture);
+            default:
+                throw new YAMLException("Unexpected event " + event);
+        }
+    }
+
+    private Map<Object, Object> mapping(final String path, final boolean capture) {
+        final Map<Object, Object> map = capture ? new LinkedHashMap<>() : null;
+        final Set<String> keys = new HashSet<>();
+        List<List<Event>> merges = null;
+        for (Event event = next(); !event.is(Event.ID.MappingEnd); event = next()) {
+            if (isMergeKey(event)) {
+                if (merges == null) {
+                    merges = new ArrayList<>();
+                }
+                merges.add(record());
+                continue;
+            }
+            entry(event, path, capture, map, keys, false);
+        }
+
+        if (merges != null) {
+            merge(merges, path, capture, map, keys);
+        }
+        return map;
+    }
+
+    private void entry(final Event keyEvent, final String path, final boolean capture, final Map<Object, Object> map,
+            final Set<String> keys, final boolean merging) {
+        final Object key = node(keyEvent, null, true);
+        final String name = key == null ? "" : key.toString();
+        if (!keys.add(name) && merging) {
+            // the key is already present in the mapping or in an earlier merged mapping
+            node(next(), null, false);
+            return;
+        }
+
+        final Object value = node(next(), path == null ? null : path(path, name), capture);
+        if (map != null) {
+            map.put(key, value);
+        }
+    }
+
+    /**
+     * Applies the recorded merge values to a mapping. Keys of the mapping take precedence over the merged keys, and
+     * keys of earlier merged mappings take precedence over keys of later merged mappings.
+     */
+    private void merge(final List<List<Event>> merges, final String path, final boolean capture,
+            final Map<Object, Object> map, final Set<String> keys) {
+        // the merged events are already part of the enclosing recordings
+        final List<List<Event>> enclosing = recordings;
+        recordings = new ArrayList<>();
+        try {
+            for (int i = 0; i < merges.size(); i++) {
+                replay.push(merges.get(i).iterator());
+                final Event event = next();
+                if (event.is(Event.ID.MappingStart)) {
+                    mergeMapping(merges, path, capture, map, keys);
+                } else if (event.is(Event.ID.SequenceStart)) {
+                    for (Event element = next(); !element.is(Event.ID.SequenceEnd); element = next()) {
+                        if (!element.is(Event.ID.MappingStart)) {
+                            throw new YAMLException("Expected a mapping for merging, but found " + element);
+                        }
+                        mergeMapping(merges, path, capture, map, keys);
+                    }
+                } else {
+                    throw new YAMLException("Expected a mapping or list of mappings for merging, but found " + event);
+                }
+            }
+        } finally {
+            recordings = enclosing;
+        }
+    }
+
+    private void mergeMapping(final List<List<Event>> merges, final String path, final boolean capture,
+            final Map<Object, Object> map, final Set<String> merged) {
+        for (Event event = next(); !event.is(Event.ID.MappingEnd); event = next()) {
+            if (isMergeKey(event)) {
+                merges.add(record());
+                continue;
+            }
+            entry(event, path, capture, map, merged, true);
+        }
+    }
+
+    private List<Object> sequence(final String path, final boolean capture) {
+        final List<Object> elements = capture || path != null ? new ArrayList<>() : null;
+        boolean mixed = false;
+        int index = 0;
+        for (Event event = next(); !event.is(Event.ID.SequenceEnd); event = next(), index++) {
+            if (!event.is(Event.ID.Scalar)) {
+                mixed = true;
+            }
+            final Object element = node(event, path == null ? null : path + "[" + index + "]", capture || mixed);
+            if (elements != null) {
+                elements.add(element);
+            }
+        }
+
+        if (path != null) {
+            if (!mixed) {
+                final StringBuilder value = new StringBuilder();
+                boolean first = true;
+                for (Object element : elements) {
+                    if (element != null) {
+                        if (!first) {
+                            value.append(',');
+                        }
+                        escapeCommas(value, element.toString());
+                        first = false;
+                    }
+                }
+                put(path, value.toString());
+            } else {
+                // This dumps the entire YAML in a parent property. It was added to support complex mappings, but it is
+                // not needed anymore with the indexed property support. We keep it for compatibility reasons.
+                properties.put(path, DUMPER.dump(singletonMap(path.substring(path.lastIndexOf('.') + 1), elements)));
+                hiddenNames.add(path);
+            }
+        }
+        return capture ? elements : null;
+    }
+
+    /**
+     * Records the events of the next node, to replay them later.
+     */
+    private List<Event> record() {
+        final Event event = next();
+        final List<Event> recording = new ArrayList<>();
+        recording.add(event);
+        recordings.add(recording);
+        try {
+            node(event, null, false);
+        } finally {
+            recordings.remove(recordings.size() - 1);
+        }
+        return recording;
+    }
+
+    /**
+     * The next event, either from the replay of an anchor or a merge, or from the parser. Aliases are expanded to the
+     * events of the anchor.
+     */
+    private Event next() {
+        Event event = null;
+        while (event == null) {
+            final Iterator<Event> events = replay.peek();
+            if (events == null) {
+                event = parser.getEvent();
+            } else if (events.hasNext()) {
+                event = events.next();
+            } else {
+                replay.pop();
+            }
+        }
+
+        if (event instanceof AliasEvent) {
+            final String anchor = ((AliasEvent) event).getAnchor();
+            final List<Event> anchored = anchors.get(anchor);
+            if (anchored == null) {
+                throw new YAMLException("Found undefined alias " + anchor);
+            }
+            if (!anchored.get(0).is(Event.ID.Scalar) && ++aliases > MAX_ALIASES_FOR_COLLECTIONS) {
+                throw new YAMLException(
+                        "Number of aliases for non-scalar nodes exceeds the specified max=" + MAX_ALIASES_FOR_COLLECTIONS);
+            }
+            replay.push(anchored.iterator());
+            return next();
+        }
+
+        for (List<Event> recording : recordings) {
+            recording.add(event);
+        }
+        return event;
+    }
+
+    private void put(final String name, final String value) {
+        properties.put(name, value);
+        hiddenNames.remove(name);
+    }
+
+    private static String path(final String path, final String key) {
+        final String name = key.contains(".") ? "\"" + key + "\"" : key;
+        if (path.isEmpty()) {
+            return name;
+        }
+        return name.isEmpty() ? path : path + "." + name;
+    }
+
+    private static Object scalar(final ScalarEvent event) {
+        final String tag = tag(event);
+        if (Tag.NULL.getValue().equals(tag)) {
+            return null;
+        }
+        if (Tag.BOOL.getValue().equals(tag)) {
+            switch (event.getValue().toLowerCase(Locale.ROOT)) {
+                case "yes":
+                case "true":
+                case "on":
+                    return Boolean.TRUE;
+                case "no":
+                case "false":
+                case "off":
+                    return Boolean.FALSE;
+                default:
+                    return null;
+            }
+        }
+        // other scalars, including timestamps and numbers, are kept as written in the document
+        return event.getValue();
+    }
+
+    private static boolean isMergeKey(final Event event) {
+        return event.is(Event.ID.Scalar) && Tag.MERGE.getValue().equals(tag((ScalarEvent) event));
+    }
+
+    private static String tag(final ScalarEvent event) {
+        final String tag = event.getTag();
+        if (tag == null || "!".equals(tag)) {
+            return RESOLVER.resolve(NodeId.scalar, event.getValue(), event.getImplicit().canOmitTagInPlainScalar())
+                    .getValue();
+        }
+        return tag;
+    }
+
+    private static void expect(final Event event, final Event.ID id) {
+        if (!event.is(id)) {
+            throw new YAMLException("Expected " + id + ", but found " + event);
+        }
+    }
+
+    private static void escapeCommas(final StringBuilder b, final String src) {
+        int cp;
+        for (int i = 0; i < src.length(); i += Character.charCount(cp)) {
+            cp = src.codePointAt(i);
+            if (cp == '\\' || cp == ',') {
+                b.append('\\');
+            }
+            b.appendCodePoint(cp);
+        }
+    }
+}
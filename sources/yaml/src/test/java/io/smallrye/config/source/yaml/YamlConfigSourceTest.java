@@ -267,6 +267,36 @@ class YamlConfigSourceTest {
                 config.getValue("zonedDateTime", ZonedDateTime.class));
     }
 
+    @Test
+    void anchorsAndMergeKeys() {
+        String yaml = "defaults: &defaults\n" +
+                "  host: localhost\n" +
+                "  port: 8080\n" +
+                "  enabled: yes\n" +
+                "  protocols: &protocols [TLSv1.2, TLSv1.3]\n" +
+                "dev:\n" +
+                "  port: 8081\n" +
+                "  <<: *defaults\n" +
+                "prod:\n" +
+                "  <<: [{host: prod, timeout: 10}, *defaults]\n" +
+                "  protocols: *protocols\n" +
+                "---\n" +
+                "dev:\n" +
+                "  host: dev";
+
+        YamlConfigSource source = new YamlConfigSource("yaml", yaml);
+        assertEquals("dev", source.getValue("dev.host"));
+        assertEquals("8081", source.getValue("dev.port"));
+        assertEquals("true", source.getValue("dev.enabled"));
+        assertEquals("TLSv1.2,TLSv1.3", source.getValue("dev.protocols"));
+        assertEquals("TLSv1.3", source.getValue("dev.protocols[1]"));
+        assertEquals("prod", source.getValue("prod.host"));
+        assertEquals("8080", source.getValue("prod.port"));
+        assertEquals("10", source.getValue("prod.timeout"));
+        assertEquals("TLSv1.2", source.getValue("prod.protocols[0]"));
+        assertFalse(source.getPropertyNames().contains("prod.<<"));
+    }
+
     public static class Users {
         List<User> users;
 
@@ -1,13 +1,23 @@
 package io.smallrye.config.source.zookeeper;
 
-import java.util.*;
+import java.io.Closeable;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
+import org.apache.curator.framework.recipes.cache.ChildData;
+import org.apache.curator.framework.recipes.cache.CuratorCache;
+import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.retry.ExponentialBackoffRetry;
-import org.apache.zookeeper.data.Stat;
+import org.apache.zookeeper.KeeperException;
 
-import io.smallrye.config.common.AbstractConfigSource;
+import io.smallrye.config.MapBackedReloadableConfigSource;
 
 /**
  * MicroProfile Config Source that is backed by Zookeeper.
@@ -15,9 +25,14 @@ import io.smallrye.config.common.AbstractConfigSource;
  * The Config Source itself needs configuration which is handled by other Config Sources.
  * Properties prefixed with io.smallrye.configsource.zookeeper will be ignored by this Config Source.
  * <p>
+ * The properties are kept in a local cache. The cache is first loaded with a single batch of pipelined reads of the
+ * application znodes, and then kept up to date with a {@link CuratorCache} on the application znode. Lookups are served
+ * from the cache, and znode changes are applied to the cache as they are received from ZooKeeper, and published to
+ * the registered {@link io.smallrye.config.ConfigChangeListener}. Values are decoded as UTF-8.
+ * <p>
  * author: Simon Woodman swoodman@redhat.com
  */
-public class ZooKeeperConfigSource extends AbstractConfigSource {
+public class ZooKeeperConfigSource extends MapBackedReloadableConfigSource implements Closeable {
     private static final long serialVersionUID = 3127679154588598693L;
 
     //Property the URL of the Zookeeper instance will be read from
@@ -29,12 +44,14 @@ public class ZooKeeperConfigSource extends AbstractConfigSource {
     private static final String ZOOKEEPER_CONFIG_SOURCE_NAME = "io.smallrye.configsource.zookeeper";
 
     //Apache Curator framework used to access Zookeeper
-    private final CuratorFramework curator;
+    private final transient CuratorFramework curator;
+    //Local cache of the application znodes
+    private final transient CuratorCache cache;
     //Root node of an application's configuration
     private final String applicationId;
 
     public ZooKeeperConfigSource(final String zookeeperUrl, final String applicationId) {
-        super(ZOOKEEPER_CONFIG_SOURCE_NAME, 150);
+        super(ZOOKEEPER_CONFIG_SOURCE_NAME, new HashMap<>(), 150);
 
         //Only create the ZK Client if the properties exist.
         if (zookeeperUrl != null && applicationId != null) {
@@ -43,57 +60,109 @@ public class ZooKeeperConfigSource extends AbstractConfigSource {
             this.applicationId = applicationId.startsWith("/") ? applicationId : "/" + applicationId;
             this.curator = CuratorFrameworkFactory.newClient(zookeeperUrl, new ExponentialBackoffRetry(1000, 3));
             this.curator.start();
+            publish(load());
+            this.cache = CuratorCache.build(curator, this.applicationId);
+            this.cache.listenable().addListener(new CacheListener());
+            this.cache.start();
         } else {
             throw ZooKeeperMessages.msg.propertiesNotSet();
         }
     }
 
+    /**
+     * Stop caching the application znodes and close the ZooKeeper client. The source keeps the last received
+     * properties.
+     */
     @Override
-    public Set<String> getPropertyNames() {
-
-        final Set<String> propertyNames = new HashSet<>();
-
-        try {
-            final List<String> children = curator.getChildren().forPath(applicationId);
-            propertyNames.addAll(children);
-        } catch (Exception e) {
-            ZooKeepperLogging.log.failedToRetrievePropertyNames(e);
-        }
-
-        return propertyNames;
+    public void close() {
+        cache.close();
+        curator.close();
     }
 
-    @Override
-    public Map<String, String> getProperties() {
-
-        final Map<String, String> props = new HashMap<>();
-
+    /**
+     * Read all the application znodes at once. The reads are sent in the background without waiting for each reply,
+     * so they are pipelined in the ZooKeeper connection, and the load takes a single round trip instead of one per
+     * znode.
+     */
+    private Map<String, String> load() {
+        final long timeoutMs = curator.getZookeeperClient().getConnectionTimeoutMs();
+        final Map<String, String> properties = new ConcurrentHashMap<>();
         try {
-            final List<String> children = curator.getChildren().forPath(applicationId);
+            final List<String> children;
+            try {
+                children = curator.getChildren().forPath(applicationId);
+            } catch (KeeperException.NoNodeException e) {
+                return properties;
+            }
+
+            final CountDownLatch loaded = new CountDownLatch(children.size());
             for (final String key : children) {
-                final String value = new String(curator.getData().forPath(applicationId + "/" + key));
-                props.put(key, value);
+                curator.getData().inBackground((client, event) -> {
+                    if (event.getResultCode() == KeeperException.Code.OK.intValue()) {
+                        properties.put(key, getValue(event.getData()));
+                    }
+                    loaded.countDown();
+                }).forPath(applicationId + "/" + key);
+            }
+
+            if (!loaded.await(timeoutMs, TimeUnit.MILLISECONDS)) {
+                ZooKeepperLogging.log.propertiesNotLoaded(timeoutMs);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
             ZooKeepperLogging.log.failedToRetrieveProperties(e);
         }
+        return properties;
+    }
 
-        return props;
+    private String getKey(final ChildData data) {
+        final String path = data.getPath();
+        // Only the direct children of the application znode are properties
+        if (path.length() > applicationId.length() + 1 && path.startsWith(applicationId)
+                && path.charAt(applicationId.length()) == '/' && path.indexOf('/', applicationId.length() + 1) < 0) {
+            return path.substring(applicationId.length() + 1);
+        }
+        return null;
     }
 
-    @Override
-    public String getValue(final String key) {
-        try {
-            final Stat stat = curator.checkExists().forPath(applicationId + "/" + key);
+    private static String getValue(final byte[] data) {
+        return data != null ? new String(data, StandardCharsets.UTF_8) : "";
+    }
+
+    /**
+     * Applies the znode events to the cached properties. Curator delivers the events of a cache one at a time, so the
+     * listener does not require synchronization. The events of the initial load of the {@link CuratorCache} are
+     * collected and published at once when the cache is initialized, which only notifies the changes since the
+     * properties were loaded.
+     */
+    private final class CacheListener implements CuratorCacheListener {
+        private Map<String, String> initialProperties = new HashMap<>();
+
+        @Override
+        public void event(final Type type, final ChildData oldData, final ChildData data) {
+            final String key = getKey(type == Type.NODE_DELETED ? oldData : data);
+            if (key == null) {
+                return;
+            }
 
-            if (stat != null) {
-                return new String(curator.getData().forPath(applicationId + "/" + key));
+            final Map<String, String> properties = initialProperties != null ? initialProperties
+                    : new HashMap<>(getProperties());
+            if (type == Type.NODE_DELETED) {
+                properties.remove(key);
             } else {
-                return null;
+                properties.put(key, getValue(data.getData()));
+            }
+
+            if (initialProperties == null) {
+                publish(properties);
             }
-        } catch (Exception e) {
-            ZooKeepperLogging.log.failedToRetrieveValue(e, key);
         }
-        return null;
+
+        @Override
+        public void initialized() {
+            publish(initialProperties);
+            initialProperties = null;
+        }
     }
 }
@@ -26,4 +26,8 @@ interface ZooKeepperLogging extends BasicLogger {
     @LogMessage(level = Logger.Level.INFO)
     @Message(id = 4503, value = "Configuring ZooKeeperConfigSource using url: %s, and applicationId: %s")
     void configuringZookeeper(String url, String applicationId);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 4504, value = "The properties from ZooKeeper were not loaded after %s ms. The properties are available once they are received")
+    void propertiesNotLoaded(long timeoutMs);
 }
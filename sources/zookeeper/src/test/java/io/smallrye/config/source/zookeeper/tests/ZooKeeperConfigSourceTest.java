@@ -8,12 +8,18 @@ package io.smallrye.config.source.zookeeper.tests;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -35,6 +41,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import io.smallrye.config.inject.ConfigExtension;
+import io.smallrye.config.source.zookeeper.ZooKeeperConfigSource;
 
 /**
  * Test the ConfigSource
@@ -114,7 +121,8 @@ class ZooKeeperConfigSourceTest {
             fail("Cannot set property PROPERTY_VALUE directly in Zookeeper");
         }
 
-        //check the property can be optained by a property
+        //check the property can be optained by a property, once the change is received by the source cache
+        awaitValue(cfg, PROPERTY_NAME, PROPERTY_VALUE);
         assertEquals(PROPERTY_VALUE, cfg.getValue(PROPERTY_NAME, String.class));
 
         Set<String> propertyNames = new HashSet<>();
@@ -122,6 +130,67 @@ class ZooKeeperConfigSourceTest {
         assertTrue(propertyNames.contains(PROPERTY_NAME));
     }
 
+    @Test
+    void testCachedChanges() throws Exception {
+        try (ZooKeeperConfigSource source = new ZooKeeperConfigSource("localhost:2181", "test2")) {
+            BlockingQueue<Set<String>> changes = new LinkedBlockingQueue<>();
+            source.addChangeListener(changes::add);
+            assertNull(source.getValue("cached.property"));
+
+            curatorClient.createContainers("/test2/cached.property");
+            curatorClient.setData().forPath("/test2/cached.property", "1234".getBytes());
+            awaitValue(source, changes, "cached.property", "1234");
+            assertTrue(source.getPropertyNames().contains("cached.property"));
+
+            curatorClient.setData().forPath("/test2/cached.property", "5678".getBytes());
+            awaitValue(source, changes, "cached.property", "5678");
+
+            // nested znodes are not properties
+            curatorClient.createContainers("/test2/cached.property/nested");
+            curatorClient.delete().deletingChildrenIfNeeded().forPath("/test2/cached.property");
+            awaitValue(source, changes, "cached.property", null);
+            assertTrue(source.getProperties().isEmpty());
+        }
+    }
+
+    @Test
+    void testBulkLoad() throws Exception {
+        for (int i = 0; i < 200; i++) {
+            curatorClient.createContainers("/test3/bulk.property." + i);
+            curatorClient.setData().forPath("/test3/bulk.property." + i, ("välue " + i).getBytes(StandardCharsets.UTF_8));
+        }
+
+        try (ZooKeeperConfigSource source = new ZooKeeperConfigSource("localhost:2181", "test3")) {
+            // loaded when the source is created
+            assertEquals(200, source.getProperties().size());
+            assertEquals("välue 0", source.getValue("bulk.property.0"));
+            assertEquals("välue 199", source.getValue("bulk.property.199"));
+        }
+
+        try (ZooKeeperConfigSource source = new ZooKeeperConfigSource("localhost:2181", "missing")) {
+            assertTrue(source.getProperties().isEmpty());
+        }
+    }
+
+    private static void awaitValue(ZooKeeperConfigSource source, BlockingQueue<Set<String>> changes, String name,
+            String value) throws InterruptedException {
+        while (!Objects.equals(value, source.getValue(name))) {
+            if (changes.poll(10, TimeUnit.SECONDS) == null) {
+                fail("Property " + name + " was not changed to " + value);
+            }
+        }
+    }
+
+    private static void awaitValue(Config config, String name, String value) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!Objects.equals(value, config.getOptionalValue(name, String.class).orElse(null))) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Property " + name + " was not changed to " + value);
+            }
+            Thread.yield();
+        }
+    }
+
     @Test
     void testInjection() {
         assertEquals("injected.property.value", injectedProperty);
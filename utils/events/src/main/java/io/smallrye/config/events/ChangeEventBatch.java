@@ -0,0 +1,34 @@
+package io.smallrye.config.events;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * All the changes of a config source, detected at once. A batch is fired once, qualified with the
+ * {@link SourceFilter} of the source, before the individual {@link ChangeEvent} of each changed key. Observers
+ * interested in many keys should observe the batch, instead of each {@link ChangeEvent}.
+ */
+public class ChangeEventBatch implements Serializable {
+
+    private final String fromSource;
+    private final List<ChangeEvent> changes;
+
+    public ChangeEventBatch(String fromSource, List<ChangeEvent> changes) {
+        this.fromSource = fromSource;
+        this.changes = Collections.unmodifiableList(changes);
+    }
+
+    public String getFromSource() {
+        return fromSource;
+    }
+
+    public List<ChangeEvent> getChanges() {
+        return changes;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeEventBatch{" + "fromSource=" + fromSource + ", changes=" + changes + '}';
+    }
+}
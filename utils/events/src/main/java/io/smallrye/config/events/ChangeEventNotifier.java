@@ -1,11 +1,17 @@
 package io.smallrye.config.events;
 
-import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.context.Initialized;
@@ -29,6 +35,17 @@ public class ChangeEventNotifier {
     @Inject
     private Event<ChangeEvent> broadcaster;
 
+    @Inject
+    private Event<ChangeEventBatch> batchBroadcaster;
+
+    /**
+     * The qualifier literals, built once per key and per config source.
+     */
+    private final ConcurrentMap<String, KeyFilter> keyFilters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, SourceFilter> sourceFilters = new ConcurrentHashMap<>();
+
+    private final OrderedDelivery asyncDelivery = new OrderedDelivery();
+
     private static ChangeEventNotifier INSTANCE;
 
     public void init(@Observes @Initialized(ApplicationScoped.class) Object init) {
@@ -40,57 +57,250 @@ public class ChangeEventNotifier {
         return INSTANCE;
     }
 
+    /**
+     * Compare all the keys of two snapshots of a config source, and fire the changes. The snapshots are not
+     * modified.
+     *
+     * @param before the contents of the config source before the change
+     * @param after the contents of the config source after the change
+     * @param fromSource the name of the config source
+     */
     public void detectChangesAndFire(Map<String, String> before, Map<String, String> after, String fromSource) {
+        List<ChangeEvent> changes = detectChanges(before, after, fromSource);
+        if (!changes.isEmpty())
+            fire(changes);
+    }
+
+    /**
+     * Compare only the given keys of two snapshots of a config source, and fire the changes. Config sources that
+     * know which keys changed, like a {@code io.smallrye.config.ReloadableConfigSource}, should use this method, so
+     * the cost of the comparison depends on the number of changed keys, and not on the size of the source.
+     *
+     * @param before the contents of the config source before the change
+     * @param after the contents of the config source after the change
+     * @param changedKeys the keys that may have changed
+     * @param fromSource the name of the config source
+     */
+    public void detectChangesAndFire(Map<String, String> before, Map<String, String> after, Set<String> changedKeys,
+            String fromSource) {
+        List<ChangeEvent> changes = detectChanges(before, after, changedKeys, fromSource);
+        if (!changes.isEmpty())
+            fire(changes);
+    }
+
+    /**
+     * Like {@link #detectChangesAndFire(Map, Map, String)}, but the changes are delivered asynchronously, see
+     * {@link #fireAsync(List)}.
+     *
+     * @param before the contents of the config source before the change
+     * @param after the contents of the config source after the change
+     * @param fromSource the name of the config source
+     * @return a {@link CompletionStage} completed when all the changes are delivered
+     */
+    public CompletionStage<Void> detectChangesAndFireAsync(Map<String, String> before, Map<String, String> after,
+            String fromSource) {
+        return fireAsync(detectChanges(before, after, fromSource));
+    }
+
+    /**
+     * Like {@link #detectChangesAndFire(Map, Map, Set, String)}, but the changes are delivered asynchronously, see
+     * {@link #fireAsync(List)}.
+     *
+     * @param before the contents of the config source before the change
+     * @param after the contents of the config source after the change
+     * @param changedKeys the keys that may have changed
+     * @param fromSource the name of the config source
+     * @return a {@link CompletionStage} completed when all the changes are delivered
+     */
+    public CompletionStage<Void> detectChangesAndFireAsync(Map<String, String> before, Map<String, String> after,
+            Set<String> changedKeys, String fromSource) {
+        return fireAsync(detectChanges(before, after, changedKeys, fromSource));
+    }
+
+    private List<ChangeEvent> detectChanges(Map<String, String> before, Map<String, String> after, String fromSource) {
         List<ChangeEvent> changes = new ArrayList<>();
-        if (!before.equals(after)) {
-            Set<Map.Entry<String, String>> beforeEntries = before.entrySet();
-            for (Map.Entry<String, String> beforeEntry : beforeEntries) {
-                String key = beforeEntry.getKey();
-                String oldValue = beforeEntry.getValue();
-                if (after.containsKey(key)) {
-                    String newValue = after.get(key);
-                    // Value can be null !
-                    if ((oldValue != null && newValue == null) ||
-                            (newValue != null && oldValue == null) ||
-                            (newValue != null && oldValue != null && !newValue.equals(oldValue))) {
-                        // Update
-                        changes.add(new ChangeEvent(Type.UPDATE, key, getOptionalOldValue(oldValue), newValue, fromSource));
-                    }
-                    after.remove(key);
-                } else {
-                    // Removed.
-                    changes.add(new ChangeEvent(Type.REMOVE, key, getOptionalOldValue(oldValue), null, fromSource));
-                }
+        for (String key : before.keySet()) {
+            addChange(changes, key, before, after, fromSource);
+        }
+        for (String key : after.keySet()) {
+            if (!before.containsKey(key)) {
+                addChange(changes, key, before, after, fromSource);
             }
-            Set<Map.Entry<String, String>> newEntries = after.entrySet();
-            for (Map.Entry<String, String> newEntry : newEntries) {
-                // New
-                changes.add(new ChangeEvent(Type.NEW, newEntry.getKey(), Optional.empty(), newEntry.getValue(), fromSource));
+        }
+        return changes;
+    }
+
+    private List<ChangeEvent> detectChanges(Map<String, String> before, Map<String, String> after,
+            Set<String> changedKeys, String fromSource) {
+        List<ChangeEvent> changes = new ArrayList<>();
+        for (String key : changedKeys) {
+            addChange(changes, key, before, after, fromSource);
+        }
+        return changes;
+    }
+
+    private void addChange(List<ChangeEvent> changes, String key, Map<String, String> before, Map<String, String> after,
+            String fromSource) {
+        boolean existed = before.containsKey(key);
+        boolean exists = after.containsKey(key);
+        String oldValue = before.get(key);
+        String newValue = after.get(key);
+        if (existed && exists) {
+            // Value can be null !
+            if (!Objects.equals(oldValue, newValue)) {
+                changes.add(new ChangeEvent(Type.UPDATE, key, getOptionalOldValue(oldValue), newValue, fromSource));
             }
+        } else if (existed) {
+            changes.add(new ChangeEvent(Type.REMOVE, key, getOptionalOldValue(oldValue), null, fromSource));
+        } else if (exists) {
+            changes.add(new ChangeEvent(Type.NEW, key, Optional.empty(), newValue, fromSource));
         }
-        if (!changes.isEmpty())
-            fire(changes);
     }
 
     public void fire(ChangeEvent changeEvent) {
-        List<Annotation> annotationList = new ArrayList<>();
-        annotationList.add(new TypeFilter.TypeFilterLiteral(changeEvent.getType()));
-        annotationList.add(new KeyFilter.KeyFilterLiteral(changeEvent.getKey()));
-        annotationList.add(new SourceFilter.SourceFilterLiteral(changeEvent.getFromSource()));
-
-        broadcaster.select(annotationList.toArray(new Annotation[annotationList.size()])).fire(changeEvent);
+        broadcaster.select(TypeFilter.TypeFilterLiteral.of(changeEvent.getType()),
+                keyFilter(changeEvent.getKey()),
+                sourceFilter(changeEvent.getFromSource()))
+                .fire(changeEvent);
     }
 
+    /**
+     * Fire a {@link ChangeEventBatch} for each config source of the events, and then each event.
+     *
+     * @param changeEvents the events to fire
+     */
     public void fire(List<ChangeEvent> changeEvents) {
+        for (ChangeEventBatch batch : batches(changeEvents)) {
+            fire(batch);
+        }
+
         for (ChangeEvent changeEvent : changeEvents) {
             fire(changeEvent);
         }
     }
 
+    /**
+     * Fire a {@link ChangeEvent} asynchronously. The calling thread only waits if the maximum number of pending
+     * events is reached, see {@link #setMaxPendingEvents(int)}.
+     *
+     * @param changeEvent the event to fire
+     * @return a {@link CompletionStage} completed when the event is delivered to all observers
+     */
+    public CompletionStage<Void> fireAsync(ChangeEvent changeEvent) {
+        return asyncDelivery.submit(changeEvent.getKey(), changeEvent, () -> fire(changeEvent));
+    }
+
+    /**
+     * Fire a {@link ChangeEventBatch} for each config source of the events, and then each event, asynchronously.
+     * <p>
+     * The events are delivered on the executor set with {@link #setExecutor(Executor)}, which uses a virtual thread
+     * per event by default if available. The events of the same key, and the batches of the same config source, are
+     * delivered in the order they were fired, one after the other. The events of different keys are delivered
+     * concurrently, so a slow observer of a key does not delay the events of other keys. The calling thread only
+     * waits if the maximum number of pending events is reached, see {@link #setMaxPendingEvents(int)}.
+     *
+     * @param changeEvents the events to fire
+     * @return a {@link CompletionStage} completed when all the events are delivered to all observers
+     */
+    public CompletionStage<Void> fireAsync(List<ChangeEvent> changeEvents) {
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>();
+        for (ChangeEventBatch batch : batches(changeEvents)) {
+            deliveries.add(asyncDelivery.submit(new SourceLane(batch.getFromSource()), batch, () -> fire(batch)));
+        }
+        for (ChangeEvent changeEvent : changeEvents) {
+            deliveries.add(asyncDelivery.submit(changeEvent.getKey(), changeEvent, () -> fire(changeEvent)));
+        }
+        return CompletableFuture.allOf(deliveries.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * The executor to deliver the events fired asynchronously. By default, a virtual thread per event if the runtime
+     * supports virtual threads, or the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     *
+     * @param executor the executor to deliver the events
+     */
+    public void setExecutor(Executor executor) {
+        asyncDelivery.setExecutor(executor);
+    }
+
+    /**
+     * The maximum number of events fired asynchronously that are not delivered yet. Once the limit is reached, firing
+     * a new event waits until a pending event is delivered. Defaults to {@code 10000}.
+     *
+     * @param maxPendingEvents the maximum number of pending events
+     */
+    public void setMaxPendingEvents(int maxPendingEvents) {
+        asyncDelivery.setMaxPending(maxPendingEvents);
+    }
+
+    public int getMaxPendingEvents() {
+        return asyncDelivery.getMaxPending();
+    }
+
+    /**
+     * @return the number of events fired asynchronously that are not delivered yet
+     */
+    public int getPendingEvents() {
+        return asyncDelivery.getPending();
+    }
+
+    /**
+     * @return the number of events fired asynchronously and delivered since the notifier was created
+     */
+    public long getDeliveredEvents() {
+        return asyncDelivery.getDelivered();
+    }
+
+    private void fire(ChangeEventBatch batch) {
+        batchBroadcaster.select(sourceFilter(batch.getFromSource())).fire(batch);
+    }
+
+    private static List<ChangeEventBatch> batches(List<ChangeEvent> changeEvents) {
+        Map<String, List<ChangeEvent>> changesBySource = new LinkedHashMap<>();
+        for (ChangeEvent changeEvent : changeEvents) {
+            changesBySource.computeIfAbsent(changeEvent.getFromSource(), k -> new ArrayList<>()).add(changeEvent);
+        }
+        List<ChangeEventBatch> batches = new ArrayList<>();
+        for (Map.Entry<String, List<ChangeEvent>> changes : changesBySource.entrySet()) {
+            batches.add(new ChangeEventBatch(changes.getKey(), changes.getValue()));
+        }
+        return batches;
+    }
+
+    private KeyFilter keyFilter(String key) {
+        return key != null ? keyFilters.computeIfAbsent(key, KeyFilter.KeyFilterLiteral::new)
+                : new KeyFilter.KeyFilterLiteral(null);
+    }
+
+    private SourceFilter sourceFilter(String source) {
+        return source != null ? sourceFilters.computeIfAbsent(source, SourceFilter.SourceFilterLiteral::new)
+                : new SourceFilter.SourceFilterLiteral(null);
+    }
+
     public Optional<String> getOptionalOldValue(String oldValue) {
         if (oldValue == null || oldValue.isEmpty())
             return Optional.empty();
         return Optional.of(oldValue);
     }
 
+    /**
+     * The lane of the batches of a config source, distinct from the lanes of the keys.
+     */
+    private static final class SourceLane {
+        private final String source;
+
+        SourceLane(String source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof SourceLane && Objects.equals(source, ((SourceLane) o).source);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(source);
+        }
+    }
 }
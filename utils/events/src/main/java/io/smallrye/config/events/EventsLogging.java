@@ -0,0 +1,17 @@
+package io.smallrye.config.events;
+
+import org.jboss.logging.BasicLogger;
+import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
+import org.jboss.logging.annotations.LogMessage;
+import org.jboss.logging.annotations.Message;
+import org.jboss.logging.annotations.MessageLogger;
+
+@MessageLogger(projectCode = "SRCFG", length = 5)
+interface EventsLogging extends BasicLogger {
+    EventsLogging log = Logger.getMessageLogger(EventsLogging.class, EventsLogging.class.getPackage().getName());
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 5001, value = "An observer failed to handle the config change %s")
+    void failedToDeliverChange(Object change, @Cause Throwable cause);
+}
@@ -0,0 +1,97 @@
+package io.smallrye.config.events;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Delivers changes on an {@link Executor}, in order for each lane. A lane is a config key for a {@link ChangeEvent},
+ * or a config source for a {@link ChangeEventBatch}. Deliveries of different lanes run concurrently, and the
+ * deliveries of the same lane run one after the other, in the order they were submitted.
+ * <p>
+ * The number of pending deliveries is bounded: once the limit is reached, the submitting thread waits until a
+ * delivery completes.
+ */
+final class OrderedDelivery {
+    static final int DEFAULT_MAX_PENDING = 10_000;
+
+    private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+    private static final Object NULL_LANE = new Object();
+
+    private final ConcurrentMap<Object, CompletableFuture<Void>> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder delivered = new LongAdder();
+    private volatile Executor executor = defaultExecutor();
+    private volatile Semaphore permits = new Semaphore(DEFAULT_MAX_PENDING);
+    private volatile int maxPending = DEFAULT_MAX_PENDING;
+
+    CompletableFuture<Void> submit(Object key, Object change, Runnable delivery) {
+        final Object lane = key != null ? key : NULL_LANE;
+        final Semaphore permits = this.permits;
+        permits.acquireUninterruptibly();
+        pending.incrementAndGet();
+
+        final CompletableFuture<Void> next = lanes.compute(lane,
+                (ignored, previous) -> (previous != null ? previous : COMPLETED).handleAsync((result, failure) -> {
+                    try {
+                        delivery.run();
+                    } catch (RuntimeException e) {
+                        EventsLogging.log.failedToDeliverChange(change, e);
+                    } finally {
+                        pending.decrementAndGet();
+                        delivered.increment();
+                        permits.release();
+                    }
+                    return null;
+                }, executor));
+        next.whenComplete((result, failure) -> lanes.remove(lane, next));
+        return next;
+    }
+
+    int getPending() {
+        return pending.get();
+    }
+
+    long getDelivered() {
+        return delivered.sum();
+    }
+
+    int getMaxPending() {
+        return maxPending;
+    }
+
+    void setMaxPending(int maxPending) {
+        if (maxPending < 1) {
+            throw new IllegalArgumentException("maxPending must be greater than 0");
+        }
+        this.maxPending = maxPending;
+        this.permits = new Semaphore(maxPending);
+    }
+
+    void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * A virtual thread per delivery when the runtime supports virtual threads, or the common pool otherwise.
+     */
+    private static Executor defaultExecutor() {
+        try {
+            return (ExecutorService) MethodHandles.publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                            MethodType.methodType(ExecutorService.class))
+                    .invoke();
+        } catch (Throwable e) {
+            return ForkJoinPool.commonPool();
+        }
+    }
+}
@@ -22,6 +22,14 @@ public @interface TypeFilter {
     Type value();
 
     class TypeFilterLiteral extends AnnotationLiteral<TypeFilter> implements TypeFilter {
+        private static final TypeFilterLiteral[] LITERALS = new TypeFilterLiteral[Type.values().length];
+
+        static {
+            for (Type type : Type.values()) {
+                LITERALS[type.ordinal()] = new TypeFilterLiteral(type);
+            }
+        }
+
         private final Type type;
 
         TypeFilterLiteral(Type type) {
@@ -32,5 +40,9 @@ public @interface TypeFilter {
         public Type value() {
             return this.type;
         }
+
+        static TypeFilterLiteral of(Type type) {
+            return LITERALS[type.ordinal()];
+        }
     }
 }
@@ -1,7 +1,8 @@
 package io.smallrye.config.events.regex;
 
-import java.util.Optional;
-import java.util.regex.Matcher;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 import javax.annotation.Priority;
@@ -15,25 +16,29 @@ import io.smallrye.config.events.ChangeEvent;
 @Interceptor
 @Priority(100)
 public class RegexFilterInterceptor {
+    /**
+     * The filter of each intercepted method, kept with the declaring class of the method, so the pattern is compiled
+     * and the {@link ChangeEvent} parameter is found only once per method.
+     */
+    private static final ClassValue<ConcurrentMap<Method, MethodFilter>> filters = new ClassValue<ConcurrentMap<Method, MethodFilter>>() {
+        @Override
+        protected ConcurrentMap<Method, MethodFilter> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     @AroundInvoke
     public Object observer(InvocationContext ctx) throws Exception {
+        Method method = ctx.getMethod();
+        MethodFilter filter = filters.get(method.getDeclaringClass()).computeIfAbsent(method, MethodFilter::new);
 
-        RegexFilter regexFilterAnnotation = ctx.getMethod().getAnnotation(RegexFilter.class);
-        Field onField = regexFilterAnnotation.onField();
-        String regex = regexFilterAnnotation.value();
-
-        Optional<ChangeEvent> posibleChangeEvent = getChangeEvent(ctx);
-
-        if (posibleChangeEvent.isPresent()) {
-            ChangeEvent changeEvent = posibleChangeEvent.get();
-            String value = getValueToApplyRegexOn(changeEvent, onField);
-            Pattern pattern = Pattern.compile(regex);
-            Matcher matcher = pattern.matcher(value);
-            boolean b = matcher.matches();
-            if (!b)
+        if (filter.parameterIndex >= 0) {
+            ChangeEvent changeEvent = (ChangeEvent) ctx.getParameters()[filter.parameterIndex];
+            String value = getValueToApplyRegexOn(changeEvent, filter.onField);
+            if (!filter.pattern.matcher(value).matches())
                 return null;
         } else {
-            RegexLogging.log.changeEventParameterMissing(ctx.getMethod().getName());
+            RegexLogging.log.changeEventParameterMissing(method.getName());
         }
         return ctx.proceed();
     }
@@ -57,15 +62,29 @@ public class RegexFilterInterceptor {
         return value;
     }
 
-    private Optional<ChangeEvent> getChangeEvent(InvocationContext ctx) {
-        Object[] parameters = ctx.getParameters();
+    private static final class MethodFilter {
+        private final Field onField;
+        private final Pattern pattern;
+        private final int parameterIndex;
+
+        MethodFilter(Method method) {
+            RegexFilter regexFilterAnnotation = method.getAnnotation(RegexFilter.class);
+            if (regexFilterAnnotation == null) {
+                regexFilterAnnotation = method.getDeclaringClass().getAnnotation(RegexFilter.class);
+            }
+            this.onField = regexFilterAnnotation.onField();
+            this.pattern = Pattern.compile(regexFilterAnnotation.value());
+            this.parameterIndex = getChangeEventIndex(method);
+        }
 
-        for (Object parameter : parameters) {
-            if (parameter.getClass().equals(ChangeEvent.class)) {
-                ChangeEvent changeEvent = (ChangeEvent) parameter;
-                return Optional.of(changeEvent);
+        private static int getChangeEventIndex(Method method) {
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (parameterTypes[i].equals(ChangeEvent.class)) {
+                    return i;
+                }
             }
+            return -1;
         }
-        return Optional.empty();
     }
 }
@@ -1,6 +1,16 @@
 package io.smallrye.config.events;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Observes;
@@ -23,7 +33,8 @@ import io.smallrye.config.inject.ConfigExtension;
 @ExtendWith(WeldJunit5Extension.class)
 class ChangeEventNotifierTest {
     @WeldSetup
-    WeldInitiator weld = WeldInitiator.from(ConfigExtension.class, ChangeEventNotifier.class)
+    WeldInitiator weld = WeldInitiator.from(ConfigExtension.class, ChangeEventNotifier.class, BatchObserver.class,
+            AsyncObserver.class)
             .addBeans()
             .activate(ApplicationScoped.class)
             .inject(this)
@@ -72,6 +83,113 @@ class ChangeEventNotifierTest {
         ChangeEventNotifier.getInstance().fire(changeEvent);
     }
 
+    @Test
+    void testDetectChanges() {
+        BATCHES.clear();
+        ChangeEventNotifier.getInstance().detectChangesAndFire(
+                map("a", "1", "b", "2", "c", "3"),
+                map("a", "1", "b", "5", "d", "4"),
+                "BatchSource");
+
+        Assertions.assertEquals(1, BATCHES.size());
+        ChangeEventBatch batch = BATCHES.get(0);
+        Assertions.assertEquals("BatchSource", batch.getFromSource());
+        Assertions.assertEquals(3, batch.getChanges().size());
+        for (ChangeEvent changeEvent : batch.getChanges()) {
+            switch (changeEvent.getKey()) {
+                case "b":
+                    Assertions.assertEquals(Type.UPDATE, changeEvent.getType());
+                    Assertions.assertEquals(Optional.of("2"), changeEvent.getOldValue());
+                    Assertions.assertEquals("5", changeEvent.getNewValue());
+                    break;
+                case "c":
+                    Assertions.assertEquals(Type.REMOVE, changeEvent.getType());
+                    break;
+                case "d":
+                    Assertions.assertEquals(Type.NEW, changeEvent.getType());
+                    Assertions.assertEquals("4", changeEvent.getNewValue());
+                    break;
+                default:
+                    Assertions.fail("Unexpected change " + changeEvent);
+            }
+        }
+    }
+
+    @Test
+    void testDetectChangedKeys() {
+        BATCHES.clear();
+        ChangeEventNotifier.getInstance().detectChangesAndFire(
+                map("a", "1", "b", "2", "c", "3"),
+                map("a", "1", "b", "5", "d", "4"),
+                new HashSet<>(Arrays.asList("a", "b")),
+                "BatchSource");
+
+        Assertions.assertEquals(1, BATCHES.size());
+        Assertions.assertEquals(1, BATCHES.get(0).getChanges().size());
+        Assertions.assertEquals("b", BATCHES.get(0).getChanges().get(0).getKey());
+    }
+
+    @Test
+    void testFireAsync() throws Exception {
+        ASYNC_VALUES.clear();
+        ChangeEventNotifier notifier = ChangeEventNotifier.getInstance();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            notifier.setExecutor(executor);
+            notifier.setMaxPendingEvents(8);
+            long delivered = notifier.getDeliveredEvents();
+
+            List<ChangeEvent> changes = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                changes.add(new ChangeEvent(Type.UPDATE, "async.key", Optional.empty(), String.valueOf(i), "AsyncSource"));
+            }
+            notifier.fireAsync(changes).toCompletableFuture().get(10, TimeUnit.SECONDS);
+            notifier.fireAsync(new ChangeEvent(Type.REMOVE, "async.key", Optional.of("49"), null, "AsyncSource"))
+                    .toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+            // events of the same key are delivered in order
+            Assertions.assertEquals(51, ASYNC_VALUES.size());
+            for (int i = 0; i < 50; i++) {
+                Assertions.assertEquals(String.valueOf(i), ASYNC_VALUES.get(i));
+            }
+            Assertions.assertNull(ASYNC_VALUES.get(50));
+            Assertions.assertEquals(0, notifier.getPendingEvents());
+            // one batch and 51 events
+            Assertions.assertEquals(delivered + 52, notifier.getDeliveredEvents());
+        } finally {
+            notifier.setMaxPendingEvents(10_000);
+            executor.shutdown();
+        }
+    }
+
+    private static Map<String, String> map(String... keyValues) {
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            map.put(keyValues[i], keyValues[i + 1]);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    private static final List<ChangeEventBatch> BATCHES = new ArrayList<>();
+
+    private static final List<String> ASYNC_VALUES = Collections.synchronizedList(new ArrayList<>());
+
+    @ApplicationScoped
+    static class AsyncObserver {
+        void listenForAsync(@Observes @SourceFilter("AsyncSource") ChangeEvent changeEvent) throws InterruptedException {
+            // a slow observer
+            Thread.sleep(1);
+            ASYNC_VALUES.add(changeEvent.getNewValue());
+        }
+    }
+
+    @ApplicationScoped
+    static class BatchObserver {
+        void listenForBatch(@Observes @SourceFilter("BatchSource") ChangeEventBatch batch) {
+            BATCHES.add(batch);
+        }
+    }
+
     public void listenForNew(@Observes @TypeFilter(Type.NEW) ChangeEvent changeEvent) {
         Assertions.assertEquals(Type.NEW, changeEvent.getType(), "Expecting new type");
     }
@@ -0,0 +1,119 @@
+package io.smallrye.config.events.regex;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.interceptor.InvocationContext;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.config.events.ChangeEvent;
+import io.smallrye.config.events.Type;
+
+class RegexFilterInterceptorTest {
+    @Test
+    void regexFilter() throws Exception {
+        RegexFilterInterceptor interceptor = new RegexFilterInterceptor();
+        KeyObserver observer = new KeyObserver();
+        Method method = KeyObserver.class.getDeclaredMethod("listenForKeyPattern", String.class, ChangeEvent.class);
+
+        for (int i = 0; i < 3; i++) {
+            interceptor.observer(new Invocation(observer, method, "first",
+                    new ChangeEvent(Type.NEW, "testcase.key" + i, Optional.empty(), "value", "TestCase")));
+            interceptor.observer(new Invocation(observer, method, "first",
+                    new ChangeEvent(Type.NEW, "other.key" + i, Optional.empty(), "testcase.value", "TestCase")));
+        }
+
+        Assertions.assertEquals(3, observer.keys.size());
+        for (String key : observer.keys) {
+            Assertions.assertTrue(key.startsWith("testcase."), key);
+        }
+    }
+
+    @Test
+    void regexFilterOnField() throws Exception {
+        RegexFilterInterceptor interceptor = new RegexFilterInterceptor();
+        KeyObserver observer = new KeyObserver();
+        Method method = KeyObserver.class.getDeclaredMethod("listenForNewValuePattern", ChangeEvent.class);
+
+        interceptor.observer(new Invocation(observer, method,
+                new ChangeEvent(Type.NEW, "testcase.key", Optional.empty(), "value", "TestCase")));
+        interceptor.observer(new Invocation(observer, method,
+                new ChangeEvent(Type.NEW, "other.key", Optional.empty(), "testcase.value", "TestCase")));
+
+        Assertions.assertEquals(1, observer.keys.size());
+        Assertions.assertEquals("other.key", observer.keys.get(0));
+    }
+
+    static class KeyObserver {
+        final List<String> keys = new ArrayList<>();
+
+        @RegexFilter("^testcase\\..+")
+        void listenForKeyPattern(String other, ChangeEvent changeEvent) {
+            keys.add(changeEvent.getKey());
+        }
+
+        @RegexFilter(onField = Field.newValue, value = "^testcase\\..+")
+        void listenForNewValuePattern(ChangeEvent changeEvent) {
+            keys.add(changeEvent.getKey());
+        }
+    }
+
+    static class Invocation implements InvocationContext {
+        private final Object target;
+        private final Method method;
+        private Object[] parameters;
+
+        Invocation(Object target, Method method, Object... parameters) {
+            this.target = target;
+            this.method = method;
+            this.parameters = parameters;
+        }
+
+        @Override
+        public Object getTarget() {
+            return target;
+        }
+
+        @Override
+        public Object getTimer() {
+            return null;
+        }
+
+        @Override
+        public Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public Constructor<?> getConstructor() {
+            return null;
+        }
+
+        @Override
+        public Object[] getParameters() {
+            return parameters;
+        }
+
+        @Override
+        public void setParameters(Object[] parameters) {
+            this.parameters = parameters;
+        }
+
+        @Override
+        public Map<String, Object> getContextData() {
+            return new HashMap<>();
+        }
+
+        @Override
+        public Object proceed() throws Exception {
+            return method.invoke(target, parameters);
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package io.smallrye.config.validator;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.UndeclaredThrowableException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -76,54 +74,30 @@ public interface BeanValidationConfigValidator extends ConfigValidator {
         }
 
         if (property.isGroup()) {
-            try {
-                Object group = property.getMethod().invoke(mappingObject);
-                // unwrap
-                if (optional) {
-                    Optional<?> optionalGroup = (Optional<?>) group;
-                    if (!optionalGroup.isPresent()) {
-                        return;
-                    }
-                    group = optionalGroup.get();
-                }
-
-                validateMappingInterface(property.asGroup().getGroupType(), appendPropertyName(currentPath, property),
-                        namingStrategy, group, problems);
-            } catch (IllegalAccessException e) {
-                throw new IllegalAccessError(e.getMessage());
-            } catch (InvocationTargetException e) {
-                try {
-                    throw e.getCause();
-                } catch (RuntimeException | Error e2) {
-                    throw e2;
-                } catch (Throwable t2) {
-                    throw new UndeclaredThrowableException(t2);
+            Object group = ConfigMappingAccessors.get(property, mappingObject);
+            // unwrap
+            if (optional) {
+                Optional<?> optionalGroup = (Optional<?>) group;
+                if (!optionalGroup.isPresent()) {
+                    return;
                 }
+                group = optionalGroup.get();
             }
+
+            validateMappingInterface(property.asGroup().getGroupType(), appendPropertyName(currentPath, property),
+                    namingStrategy, group, problems);
         }
 
         if (property.isCollection()) {
             CollectionProperty collectionProperty = property.asCollection();
             if (collectionProperty.getElement().isGroup()) {
-                try {
-                    Collection<?> collection = (Collection<?>) property.getMethod().invoke(mappingObject);
-                    int i = 0;
-                    for (Object element : collection) {
-                        validateMappingInterface(collectionProperty.getElement().asGroup().getGroupType(),
-                                appendPropertyName(currentPath, property) + "[" + i + "]",
-                                namingStrategy, element, problems);
-                        i++;
-                    }
-                } catch (IllegalAccessException e) {
-                    throw new IllegalAccessError(e.getMessage());
-                } catch (InvocationTargetException e) {
-                    try {
-                        throw e.getCause();
-                    } catch (RuntimeException | Error e2) {
-                        throw e2;
-                    } catch (Throwable t2) {
-                        throw new UndeclaredThrowableException(t2);
-                    }
+                Collection<?> collection = (Collection<?>) ConfigMappingAccessors.get(property, mappingObject);
+                int i = 0;
+                for (Object element : collection) {
+                    validateMappingInterface(collectionProperty.getElement().asGroup().getGroupType(),
+                            appendPropertyName(currentPath, property) + "[" + i + "]",
+                            namingStrategy, element, problems);
+                    i++;
                 }
             } else if (collectionProperty.getElement().isLeaf()) {
                 validateProperty(collectionProperty.getElement(), currentPath, namingStrategy, mappingObject, optional,
@@ -134,23 +108,11 @@ public interface BeanValidationConfigValidator extends ConfigValidator {
         if (property.isMap()) {
             MapProperty mapProperty = property.asMap();
             if (mapProperty.getValueProperty().isGroup()) {
-                try {
-                    Map<?, ?> map = (Map<?, ?>) property.getMethod().invoke(mappingObject);
-                    for (Map.Entry<?, ?> entry : map.entrySet()) {
-                        validateMappingInterface(mapProperty.getValueProperty().asGroup().getGroupType(),
-                                appendPropertyName(currentPath, property) + "." + entry.getKey(),
-                                namingStrategy, entry.getValue(), problems);
-                    }
-                } catch (IllegalAccessException e) {
-                    throw new IllegalAccessError(e.getMessage());
-                } catch (InvocationTargetException e) {
-                    try {
-                        throw e.getCause();
-                    } catch (RuntimeException | Error e2) {
-                        throw e2;
-                    } catch (Throwable t2) {
-                        throw new UndeclaredThrowableException(t2);
-                    }
+                Map<?, ?> map = (Map<?, ?>) ConfigMappingAccessors.get(property, mappingObject);
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    validateMappingInterface(mapProperty.getValueProperty().asGroup().getGroupType(),
+                            appendPropertyName(currentPath, property) + "." + entry.getKey(),
+                            namingStrategy, entry.getValue(), problems);
                 }
             } else if (mapProperty.getValueProperty().isLeaf()) {
                 validatePropertyValue(property, currentPath, namingStrategy, mappingObject, problems);
@@ -165,23 +127,11 @@ public interface BeanValidationConfigValidator extends ConfigValidator {
             final Object mappingObject,
             final List<Problem> problems) {
 
-        try {
-            Set<ConstraintViolation<Object>> violations = getValidator().forExecutables().validateReturnValue(mappingObject,
-                    property.getMethod(),
-                    property.getMethod().invoke(mappingObject));
-            for (ConstraintViolation<Object> violation : violations) {
-                problems.add(new Problem(interpolateMessage(currentPath, namingStrategy, property, violation)));
-            }
-        } catch (IllegalAccessException e) {
-            throw new IllegalAccessError(e.getMessage());
-        } catch (InvocationTargetException e) {
-            try {
-                throw e.getCause();
-            } catch (RuntimeException | Error e2) {
-                throw e2;
-            } catch (Throwable t2) {
-                throw new UndeclaredThrowableException(t2);
-            }
+        Set<ConstraintViolation<Object>> violations = getValidator().forExecutables().validateReturnValue(mappingObject,
+                property.getMethod(),
+                ConfigMappingAccessors.get(property, mappingObject));
+        for (ConstraintViolation<Object> violation : violations) {
+            problems.add(new Problem(interpolateMessage(currentPath, namingStrategy, property, violation)));
         }
     }
 
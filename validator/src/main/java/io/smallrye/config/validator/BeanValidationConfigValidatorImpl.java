@@ -1,10 +1,25 @@
 package io.smallrye.config.validator;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import javax.validation.Validation;
 import javax.validation.Validator;
 
+import io.smallrye.config.ConfigMappingObject;
+import io.smallrye.config.ConfigValidationException;
+import io.smallrye.config.ConfigValidationException.Problem;
+
 public class BeanValidationConfigValidatorImpl implements BeanValidationConfigValidator {
     private Validator validator;
+    /**
+     * The validation outcome of each config mapping instance. Config mapping instances are immutable, so the
+     * validation result does not change for the lifetime of the instance. Only generated
+     * {@link ConfigMappingObject} instances are recorded, because these have identity equality and are reused by the
+     * {@link io.smallrye.config.SmallRyeConfig}.
+     */
+    private final Map<Object, Problem[]> validated = Collections.synchronizedMap(new WeakHashMap<>());
 
     public BeanValidationConfigValidatorImpl() {
         this.validator = Validation.buildDefaultValidatorFactory().getValidator();
@@ -14,4 +29,32 @@ public class BeanValidationConfigValidatorImpl implements BeanValidationConfigVa
     public Validator getValidator() {
         return validator;
     }
+
+    @Override
+    public void validateMapping(final Class<?> mappingClass, final String prefix, final Object mappingObject)
+            throws ConfigValidationException {
+
+        if (!(mappingObject instanceof ConfigMappingObject)) {
+            BeanValidationConfigValidator.super.validateMapping(mappingClass, prefix, mappingObject);
+            return;
+        }
+
+        Problem[] problems = validated.get(mappingObject);
+        if (problems == null) {
+            try {
+                BeanValidationConfigValidator.super.validateMapping(mappingClass, prefix, mappingObject);
+                problems = Problem.NO_PROBLEMS;
+            } catch (ConfigValidationException e) {
+                problems = new Problem[e.getProblemCount()];
+                for (int i = 0; i < problems.length; i++) {
+                    problems[i] = e.getProblem(i);
+                }
+            }
+            validated.put(mappingObject, problems);
+        }
+
+        if (problems.length > 0) {
+            throw new ConfigValidationException(problems);
+        }
+    }
 }
@@ -0,0 +1,52 @@
+package io.smallrye.config.validator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.smallrye.config.ConfigMappingInterface.Property;
+
+/**
+ * Accessor handles for the properties of a config mapping. A {@link MethodHandle} is resolved once per property method
+ * and cached with the declaring interface, so that validation does not go through reflective {@link Method} invocation
+ * for every property read.
+ */
+final class ConfigMappingAccessors {
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<ConcurrentMap<String, MethodHandle>> accessors = new ClassValue<ConcurrentMap<String, MethodHandle>>() {
+        @Override
+        protected ConcurrentMap<String, MethodHandle> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private ConfigMappingAccessors() {
+        throw new UnsupportedOperationException();
+    }
+
+    static Object get(final Property property, final Object mappingObject) {
+        final Method method = property.getMethod();
+        final MethodHandle accessor = accessors.get(method.getDeclaringClass()).computeIfAbsent(method.getName(),
+                name -> unreflect(method));
+        try {
+            return accessor.invokeExact(mappingObject);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    private static MethodHandle unreflect(final Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(ACCESSOR_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalAccessError(e.getMessage());
+        }
+    }
+}
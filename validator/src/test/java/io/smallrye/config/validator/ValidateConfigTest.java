@@ -10,7 +10,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.validation.Validator;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.Size;
@@ -122,6 +124,34 @@ public class ValidateConfigTest {
         assertEquals("server.port must be greater than or equal to 8000", validationException.getProblem(0).getMessage());
     }
 
+    @Test
+    void validationOutcomeCached() {
+        AtomicInteger validations = new AtomicInteger();
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withValidator(new BeanValidationConfigValidatorImpl() {
+                    @Override
+                    public Validator getValidator() {
+                        validations.incrementAndGet();
+                        return super.getValidator();
+                    }
+                })
+                .withSources(config(
+                        "server.host", "localhost",
+                        "server.port", "80"))
+                .withMapping(ServerParent.class, "server")
+                .build();
+
+        ConfigValidationException first = assertThrows(ConfigValidationException.class,
+                () -> config.getConfigMapping(ServerParent.class, "server"));
+        int validationsAfterFirst = validations.get();
+        ConfigValidationException second = assertThrows(ConfigValidationException.class,
+                () -> config.getConfigMapping(ServerParent.class, "server"));
+
+        assertEquals(validationsAfterFirst, validations.get());
+        assertEquals(first.getProblemCount(), second.getProblemCount());
+        assertEquals(first.getProblem(0).getMessage(), second.getProblem(0).getMessage());
+    }
+
     @ConfigMapping(prefix = "server")
     public interface Server {
         String host();